@@ -1,6 +1,14 @@
 package com.github.mikeherasimov.trie;
 
+import gnu.trove.list.array.TIntArrayList;
+import gnu.trove.map.hash.TCustomHashMap;
+import gnu.trove.strategy.HashingStrategy;
+
 import java.util.BitSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Optimizer class makes optimization of all realizations of Trie interface.
@@ -77,6 +85,87 @@ public final class Optimizer <T extends Node>{
         }
     }
 
+    /**
+     * Makes search of duplicates and eliminates all but one, visiting each node only once.
+     * Nodes are visited from last to first, so all descendants of node are visited (and already unique)
+     * before node itself. That is why node can be compared with already visited nodes by its signature,
+     * using register of unique nodes, instead of comparing whole subtries.
+     * Unlike <code>eliminateDuplicates()</code> it takes time proportional to number of nodes.
+     */
+    public void eliminateDuplicatesBottomUp(){
+        TCustomHashMap<T, T> register =
+                new TCustomHashMap<>(new SignatureHashingStrategy<>(optimizerBehaviour), nodes.length);
+        for (int i = nodes.length - 1; i > 0; i--) {
+            T current = nodes[i];
+            T duplicate = register.putIfAbsent(current, current);
+            if (duplicate != null){
+                optimizerBehaviour.changeRefs(nodes[ancestors[i]], current, duplicate);
+            }
+        }
+    }
+
+    /**
+     * Makes the same optimization as <code>eliminateDuplicatesBottomUp()</code>, using threads of supplied pool.
+     * Subtries of different children of root don't refer to each other, so they are optimized concurrently
+     * with shared register of unique nodes, and then children of root are optimized.
+     * Result is the same as result of sequential optimization.
+     *
+     * @param pool  pool, which threads are used for optimization
+     */
+    public void eliminateDuplicatesBottomUp(ForkJoinPool pool){
+        TIntArrayList partitions = new TIntArrayList();
+        for (int i = 1; i < nodes.length; i++) {
+            if (ancestors[i] == 0){
+                partitions.add(i);
+            }
+        }
+        partitions.add(nodes.length);
+
+        ConcurrentMap<Signature<T>, T> register = new ConcurrentHashMap<>(nodes.length);
+        pool.invoke(new PartitionTask(register, partitions, 0, partitions.size() - 1));
+        for (int i = partitions.size() - 2; i >= 0; i--) {
+            replaceOrRegister(register, partitions.get(i));
+        }
+    }
+
+    private void replaceOrRegister(ConcurrentMap<Signature<T>, T> register, int index){
+        T current = nodes[index];
+        T duplicate = register.putIfAbsent(new Signature<>(optimizerBehaviour, current), current);
+        if (duplicate != null){
+            optimizerBehaviour.changeRefs(nodes[ancestors[index]], current, duplicate);
+        }
+    }
+
+    private final class PartitionTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final ConcurrentMap<Signature<T>, T> register;
+        private final TIntArrayList partitions;
+        private final int from;
+        private final int to;
+
+        PartitionTask(ConcurrentMap<Signature<T>, T> register, TIntArrayList partitions, int from, int to){
+            this.register = register;
+            this.partitions = partitions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1){
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(register, partitions, from, middle),
+                        new PartitionTask(register, partitions, middle, to));
+            } else if (to > from){
+                int head = partitions.get(from);
+                for (int i = partitions.get(to) - 1; i > head; i--) {
+                    replaceOrRegister(register, i);
+                }
+            }
+        }
+    }
+
     private void compareAndEliminate(T current, int curLeaf, T replace, int repLeaf,
                                      int index, BitSet bitSet){
         boolean matchFound = false;
@@ -104,4 +193,50 @@ public final class Optimizer <T extends Node>{
         bitSet.set(rootIndex, rootIndex + subtrieNodeCount);
     }
 
+    private static final class SignatureHashingStrategy <T extends Node> implements HashingStrategy<T> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient OptimizerBehaviour<T> optimizerBehaviour;
+
+        SignatureHashingStrategy(OptimizerBehaviour<T> optimizerBehaviour){
+            this.optimizerBehaviour = optimizerBehaviour;
+        }
+
+        @Override
+        public int computeHashCode(T node) {
+            return optimizerBehaviour.signatureHashCode(node);
+        }
+
+        @Override
+        public boolean equals(T first, T second) {
+            return first == second || optimizerBehaviour.signatureEquals(first, second);
+        }
+    }
+
+    private static final class Signature <T extends Node> {
+        private final OptimizerBehaviour<T> optimizerBehaviour;
+        private final T node;
+        private final int hashCode;
+
+        Signature(OptimizerBehaviour<T> optimizerBehaviour, T node){
+            this.optimizerBehaviour = optimizerBehaviour;
+            this.node = node;
+            hashCode = optimizerBehaviour.signatureHashCode(node);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public boolean equals(Object obj) {
+            if(obj == this) return true;
+            if(!(obj instanceof Signature)) return false;
+            Signature<T> signature = (Signature<T>) obj;
+            return hashCode == signature.hashCode && optimizerBehaviour.signatureEquals(node, signature.node);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
 }
@@ -26,4 +26,25 @@ public interface OptimizerBehaviour <T extends Node>{
      */
     int countNodes(T current);
 
+    /**
+     * Returns hash code of node, calculated from node's own values and identities of nodes it refers to.
+     * It is used by bottom-up optimization, where all descendants of node are already unique,
+     * so such shallow hash code has to be consistent with <code>signatureEquals</code>.
+     *
+     * @param node  node, which hash code has to be calculated
+     * @return      hash code of node's signature
+     */
+    int signatureHashCode(T node);
+
+    /**
+     * Returns true if both nodes have equal values and refer to the same nodes.
+     * It is used by bottom-up optimization, where all descendants of both nodes are already unique,
+     * so nodes with equal signatures are duplicates.
+     *
+     * @param first   node to be compared
+     * @param second  node to be compared
+     * @return        <code>true</code> if signatures of both nodes are equal
+     */
+    boolean signatureEquals(T first, T second);
+
 }
@@ -13,6 +13,14 @@ public interface Trie extends WordGraph {
      */
     void add(String word);
 
+    /**
+     * Removes specified word from this Trie.
+     *
+     * @param word  word to be removed from this Trie
+     * @return      <code>true</code> if this Trie contained specified word
+     */
+    boolean remove(String word);
+
     /**
      * Makes optimization of this Trie to DAWG and returns respective DAWG object.
      *
@@ -3,6 +3,8 @@ package com.github.mikeherasimov.trie;
 /**
  * WordGraph is superinterface for all types of word graphs in trie package.
  * It contains basic methods, each of which defines basic behaviour of its subinerfaces.
+ * Words are looked up as <code>CharSequence</code>`s, so tokens from <code>StringBuilder</code>
+ * or <code>CharBuffer</code> don't have to be copied to <code>String</code>.
  */
 public interface WordGraph {
 
@@ -22,6 +24,36 @@ public interface WordGraph {
      */
     boolean isPrefix(String prefix);
 
+    /**
+     * Returns true if WordGraph contains word, which consists of characters of specified sequence.
+     * Sequence isn't copied to <code>String</code>.
+     *
+     * @param word  word whose presence in this <code>WordGraph</code> is to be tested
+     * @return      <code>true</code> if <code>WordGraph</code> contains specified word
+     */
+    boolean contains(CharSequence word);
+
+    /**
+     * Returns true if WordGraph contains prefix, which consists of characters of specified sequence.
+     * Sequence isn't copied to <code>String</code>.
+     *
+     * @param prefix  word whose presence in this <code>WordGraph</code> is to be tested
+     * @return      <code>true</code> if <code>WordGraph</code> contains specified prefix
+     */
+    boolean isPrefix(CharSequence prefix);
+
+    /**
+     * Returns length of the longest word of WordGraph, which starts at specified index of text.
+     * Text is traversed once from specified index, until it leaves prefixes of this <code>WordGraph</code>,
+     * and no substrings of text are created.
+     *
+     * @param text                        text, where word is searched
+     * @param from                        index of text, where word starts
+     * @return                            length of the longest word or 0 if no word starts at specified index
+     * @throws IndexOutOfBoundsException  if <code>from</code> is negative or greater than length of text
+     */
+    int longestPrefixMatch(CharSequence text, int from);
+
     /**
      * Returns the number of words in this WordGraph
      *
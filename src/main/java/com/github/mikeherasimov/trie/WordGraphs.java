@@ -0,0 +1,23 @@
+package com.github.mikeherasimov.trie;
+
+/**
+ * WordGraphs contains static helpers, which are shared by implementations of <code>WordGraph</code>
+ * from different packages.
+ */
+public final class WordGraphs {
+
+    private WordGraphs(){}
+
+    /**
+     * Checks index, from which <code>longestPrefixMatch()</code> starts to traverse text.
+     *
+     * @param text                        text, where word is searched
+     * @param from                        index of text, where word starts
+     * @throws IndexOutOfBoundsException  if <code>from</code> is negative or greater than length of text
+     */
+    public static void checkFromIndex(CharSequence text, int from) {
+        if (from < 0 || from > text.length()){
+            throw new IndexOutOfBoundsException("Index " + from + " is out of bounds for length " + text.length());
+        }
+    }
+}
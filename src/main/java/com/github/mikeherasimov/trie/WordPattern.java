@@ -0,0 +1,254 @@
+package com.github.mikeherasimov.trie;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * WordPattern is compiled pattern of words, which supports next syntax:
+ * <ul>
+ *     <li><code>?</code> matches any single letter</li>
+ *     <li><code>*</code> matches any sequence of letters, including empty one</li>
+ *     <li><code>[abc]</code>, <code>[a-z]</code> match any letter of class,
+ *     <code>[^abc]</code> matches any letter, which isn't in class</li>
+ *     <li><code>\</code> escapes the next character, so it matches itself</li>
+ * </ul>
+ * All other characters match themselves.
+ * <p>
+ * Pattern is compiled to nondeterministic automaton, where state <code>i</code> means that the first
+ * <code>i</code> elements of pattern are matched. Sets of states are stored as bits in <code>long</code> arrays,
+ * which are supplied by caller, so trie can keep one set per depth and intersect pattern with its
+ * branches letter by letter, without allocations, dropping branch as soon as set of states becomes empty.
+ */
+public final class WordPattern {
+    private static final int LETTER = 0;
+    private static final int ANY = 1;
+    private static final int STAR = 2;
+    private static final int CLASS = 3;
+
+    private final String pattern;
+    private final int[] kinds;
+    private final char[] letters;
+    private final char[][] ranges;
+    private final boolean[] negated;
+    private final int setSize;
+
+    private WordPattern(String pattern, int[] kinds, char[] letters, char[][] ranges, boolean[] negated){
+        this.pattern = pattern;
+        this.kinds = kinds;
+        this.letters = letters;
+        this.ranges = ranges;
+        this.negated = negated;
+        setSize = (kinds.length + 1 + 63) >>> 6;
+    }
+
+    /**
+     * Compiles supplied pattern.
+     *
+     * @param pattern                    pattern of words
+     * @return                           <code>WordPattern</code> object
+     * @throws IllegalArgumentException  if pattern contains unclosed class or ends with escape character
+     */
+    public static WordPattern compile(String pattern) {
+        List<Integer> kinds = new ArrayList<>();
+        StringBuilder letters = new StringBuilder();
+        List<char[]> ranges = new ArrayList<>();
+        List<Boolean> negated = new ArrayList<>();
+
+        for (int i = 0; i < pattern.length(); i++) {
+            char current = pattern.charAt(i);
+            int kind = LETTER;
+            char[] classRanges = null;
+            boolean negation = false;
+            if (current == '?'){
+                kind = ANY;
+            } else if (current == '*'){
+                if (!kinds.isEmpty() && kinds.get(kinds.size() - 1) == STAR){
+                    continue;
+                }
+                kind = STAR;
+            } else if (current == '\\'){
+                if (++i == pattern.length()){
+                    throw new IllegalArgumentException("Pattern ends with escape character: " + pattern);
+                }
+                current = pattern.charAt(i);
+            } else if (current == '['){
+                int end = classEnd(pattern, i);
+                negation = i + 1 < end && pattern.charAt(i + 1) == '^';
+                classRanges = parseClass(pattern, negation ? i + 2 : i + 1, end);
+                kind = CLASS;
+                i = end;
+            }
+            kinds.add(kind);
+            letters.append(current);
+            ranges.add(classRanges);
+            negated.add(negation);
+        }
+
+        int[] kindArray = new int[kinds.size()];
+        boolean[] negatedArray = new boolean[kinds.size()];
+        for (int i = 0; i < kindArray.length; i++) {
+            kindArray[i] = kinds.get(i);
+            negatedArray[i] = negated.get(i);
+        }
+        return new WordPattern(pattern, kindArray, letters.toString().toCharArray(),
+                ranges.toArray(new char[ranges.size()][]), negatedArray);
+    }
+
+    private static int classEnd(String pattern, int start){
+        int i = start + 1;
+        if (i < pattern.length() && pattern.charAt(i) == '^'){
+            i++;
+        }
+        if (i < pattern.length() && pattern.charAt(i) == ']'){
+            i++;
+        }
+        while (i < pattern.length() && pattern.charAt(i) != ']') {
+            if (pattern.charAt(i) == '\\'){
+                i++;
+            }
+            i++;
+        }
+        if (i >= pattern.length()){
+            throw new IllegalArgumentException("Pattern contains unclosed class: " + pattern);
+        }
+        return i;
+    }
+
+    private static char[] parseClass(String pattern, int from, int to){
+        StringBuilder ranges = new StringBuilder();
+        for (int i = from; i < to; i++) {
+            char low = pattern.charAt(i);
+            if (low == '\\'){
+                low = pattern.charAt(++i);
+            }
+            char high = low;
+            if (i + 2 < to && pattern.charAt(i + 1) == '-'){
+                i += 2;
+                high = pattern.charAt(i);
+                if (high == '\\'){
+                    high = pattern.charAt(++i);
+                }
+                if (high < low){
+                    throw new IllegalArgumentException("Illegal range " + low + "-" + high + " in pattern: " + pattern);
+                }
+            }
+            ranges.append(low).append(high);
+        }
+        return ranges.toString().toCharArray();
+    }
+
+    /**
+     * Returns number of <code>long</code> values, which are needed to store one set of states
+     *
+     * @return  size of set of states
+     */
+    public int stateSetSize() {
+        return setSize;
+    }
+
+    /**
+     * Writes initial set of states (nothing is matched yet) to supplied array.
+     *
+     * @param states  destination array
+     * @param offset  index of the first value of set
+     */
+    public void start(long[] states, int offset) {
+        Arrays.fill(states, offset, offset + setSize, 0);
+        addState(states, offset, 0);
+    }
+
+    /**
+     * Computes set of states, to which automaton goes from supplied set by supplied letter.
+     *
+     * @param from        source set of states
+     * @param fromOffset  index of the first value of source set
+     * @param letter      next letter of word
+     * @param to          destination array
+     * @param toOffset    index of the first value of destination set
+     * @return            <code>true</code> if destination set isn't empty, so word can still match pattern
+     */
+    public boolean step(long[] from, int fromOffset, char letter, long[] to, int toOffset) {
+        Arrays.fill(to, toOffset, toOffset + setSize, 0);
+        boolean alive = false;
+        for (int i = 0; i < setSize; i++) {
+            long bits = from[fromOffset + i];
+            while (bits != 0) {
+                int state = (i << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                if (state == kinds.length){
+                    continue;
+                }
+                if (kinds[state] == STAR){
+                    addState(to, toOffset, state);
+                    alive = true;
+                } else if (accepts(state, letter)){
+                    addState(to, toOffset, state + 1);
+                    alive = true;
+                }
+            }
+        }
+        return alive;
+    }
+
+    /**
+     * Returns true if supplied set of states contains final state, that is word matches whole pattern
+     *
+     * @param states  set of states
+     * @param offset  index of the first value of set
+     * @return        <code>true</code> if word, which led to this set, matches pattern
+     */
+    public boolean isAccepting(long[] states, int offset) {
+        int state = kinds.length;
+        return (states[offset + (state >>> 6)] & 1L << state) != 0;
+    }
+
+    /**
+     * Returns true if supplied word matches this pattern
+     *
+     * @param word  word to be tested
+     * @return      <code>true</code> if word matches this pattern
+     */
+    public boolean matches(CharSequence word) {
+        long[] states = new long[setSize * 2];
+        start(states, 0);
+        int current = 0;
+        for (int i = 0; i < word.length(); i++) {
+            int next = setSize - current;
+            if (!step(states, current, word.charAt(i), states, next)){
+                return false;
+            }
+            current = next;
+        }
+        return isAccepting(states, current);
+    }
+
+    private void addState(long[] states, int offset, int state){
+        states[offset + (state >>> 6)] |= 1L << state;
+        while (state < kinds.length && kinds[state] == STAR) {
+            state++;
+            states[offset + (state >>> 6)] |= 1L << state;
+        }
+    }
+
+    private boolean accepts(int state, char letter){
+        switch (kinds[state]) {
+            case LETTER:
+                return letters[state] == letter;
+            case CLASS:
+                char[] classRanges = ranges[state];
+                boolean inClass = false;
+                for (int i = 0; i < classRanges.length && !inClass; i += 2) {
+                    inClass = classRanges[i] <= letter && letter <= classRanges[i + 1];
+                }
+                return inClass != negated[state];
+            default:
+                return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
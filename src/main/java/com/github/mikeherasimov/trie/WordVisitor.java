@@ -0,0 +1,19 @@
+package com.github.mikeherasimov.trie;
+
+/**
+ * WordVisitor receives words, which are enumerated by word graph.
+ * Word is passed as buffer, which is reused for all words of one enumeration,
+ * so visitor has to copy it (for example to <code>String</code>) if it needs word after return.
+ */
+public interface WordVisitor {
+
+    /**
+     * Visits the next word.
+     *
+     * @param buffer  buffer, which first <code>length</code> characters are the word
+     * @param length  length of the word
+     * @return        <code>true</code> if enumeration has to be continued
+     */
+    boolean visit(char[] buffer, int length);
+
+}
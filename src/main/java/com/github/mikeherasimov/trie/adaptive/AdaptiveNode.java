@@ -0,0 +1,233 @@
+package com.github.mikeherasimov.trie.adaptive;
+
+import com.github.mikeherasimov.trie.Node;
+
+import java.util.Arrays;
+
+/**
+ * AdaptiveNode is node of AdaptiveTrie, which representation of children depends on their number.
+ * Small node keeps letters of children in sorted array and searches it linearly,
+ * medium node searches the same array by binary search, and large node keeps children in table,
+ * which is indexed directly by letter (shifted by the least letter of table).
+ * Node switches to table when number of its children exceeds <code>MEDIUM_CAPACITY</code>,
+ * if letters of children fit to <code>MAX_TABLE_SPAN</code>, and returns to sorted array
+ * if letter of new child doesn't fit to table anymore or when most of children are removed.
+ */
+final class AdaptiveNode implements Node {
+    static final int SMALL_CAPACITY = 8;
+    static final int MEDIUM_CAPACITY = 48;
+    static final int MAX_TABLE_SPAN = 256;
+
+    private static final char[] NO_LETTERS = new char[0];
+    private static final AdaptiveNode[] NO_CHILDREN = new AdaptiveNode[0];
+
+    private final char letter;
+    private boolean EOW;
+
+    private int numberOfChildren;
+    private char[] letters = NO_LETTERS;
+    private AdaptiveNode[] children = NO_CHILDREN;
+    private boolean table;
+    private char low;
+
+    public AdaptiveNode() {
+        this('\0');
+    }
+
+    public AdaptiveNode(char letter) {
+        this.letter = letter;
+    }
+
+    @Override
+    public void setAsEOW() {
+        EOW = true;
+    }
+
+    public void unsetAsEOW() {
+        EOW = false;
+    }
+
+    @Override
+    public char getLetter() {
+        return letter;
+    }
+
+    @Override
+    public boolean getEOW() {
+        return EOW;
+    }
+
+    public int numberOfChildren() {
+        return numberOfChildren;
+    }
+
+    /**
+     * Returns true if children of node are kept in table, which is indexed by letter
+     *
+     * @return  <code>true</code> if children of node are kept in table
+     */
+    public boolean isTable() {
+        return table;
+    }
+
+    /**
+     * Returns child of node, that contains specified letter.
+     *
+     * @param letter  letter of child
+     * @return        child or <code>null</code> if node doesn't have child with such letter
+     */
+    public AdaptiveNode getChild(char letter) {
+        if (table){
+            int index = letter - low;
+            return index >= 0 && index < children.length ? children[index] : null;
+        }
+        int index = indexOf(letter);
+        return index >= 0 ? children[index] : null;
+    }
+
+    /**
+     * Returns child of node, that contains specified letter, and creates it if node doesn't have such child.
+     *
+     * @param letter  letter of child
+     * @return        existing or new child
+     */
+    public AdaptiveNode addChild(char letter) {
+        AdaptiveNode child = getChild(letter);
+        if (child != null){
+            return child;
+        }
+        child = new AdaptiveNode(letter);
+        if (table && !fitsTable(low, children.length, letter)){
+            toSortedArray();
+        } else if (!table && numberOfChildren == MEDIUM_CAPACITY &&
+                fitsTable(letters[0], letters[numberOfChildren - 1] - letters[0] + 1, letter)){
+            toTable();
+        }
+
+        if (table){
+            putToTable(child);
+        } else {
+            insertToSortedArray(-(indexOf(letter) + 1), child);
+        }
+        numberOfChildren++;
+        return child;
+    }
+
+    /**
+     * Removes child of node, that contains specified letter.
+     * Table of children returns to sorted array, when number of children becomes half of <code>MEDIUM_CAPACITY</code>.
+     *
+     * @param letter  letter of child
+     * @return        <code>true</code> if node had child with such letter
+     */
+    public boolean removeChild(char letter) {
+        if (table){
+            int index = letter - low;
+            if (index < 0 || index >= children.length || children[index] == null){
+                return false;
+            }
+            children[index] = null;
+            numberOfChildren--;
+            if (numberOfChildren <= MEDIUM_CAPACITY / 2){
+                toSortedArray();
+            }
+            return true;
+        }
+        int index = indexOf(letter);
+        if (index < 0){
+            return false;
+        }
+        numberOfChildren--;
+        System.arraycopy(letters, index + 1, letters, index, numberOfChildren - index);
+        System.arraycopy(children, index + 1, children, index, numberOfChildren - index);
+        children[numberOfChildren] = null;
+        return true;
+    }
+
+    /**
+     * Copies children of node to supplied array in order of their letters.
+     *
+     * @param destination  array, which has room for <code>numberOfChildren()</code> nodes after offset
+     * @param offset       index of destination array, where the first child is placed
+     */
+    public void copyChildren(AdaptiveNode[] destination, int offset) {
+        if (table){
+            for (AdaptiveNode child : children) {
+                if (child != null){
+                    destination[offset++] = child;
+                }
+            }
+        } else {
+            System.arraycopy(children, 0, destination, offset, numberOfChildren);
+        }
+    }
+
+    private int indexOf(char letter){
+        if (numberOfChildren <= SMALL_CAPACITY){
+            for (int i = 0; i < numberOfChildren; i++) {
+                if (letters[i] >= letter){
+                    return letters[i] == letter ? i : -(i + 1);
+                }
+            }
+            return -(numberOfChildren + 1);
+        }
+        return Arrays.binarySearch(letters, 0, numberOfChildren, letter);
+    }
+
+    private static boolean fitsTable(char low, int span, char letter){
+        if (letter < low){
+            span += low - letter;
+        } else if (letter >= low + span){
+            span = letter - low + 1;
+        }
+        return span <= MAX_TABLE_SPAN;
+    }
+
+    private void insertToSortedArray(int index, AdaptiveNode child){
+        if (numberOfChildren == letters.length){
+            int capacity = Math.max(2, numberOfChildren * 2);
+            letters = Arrays.copyOf(letters, capacity);
+            children = Arrays.copyOf(children, capacity);
+        }
+        System.arraycopy(letters, index, letters, index + 1, numberOfChildren - index);
+        System.arraycopy(children, index, children, index + 1, numberOfChildren - index);
+        letters[index] = child.letter;
+        children[index] = child;
+    }
+
+    private void putToTable(AdaptiveNode child){
+        int index = child.letter - low;
+        if (index < 0){
+            AdaptiveNode[] grown = new AdaptiveNode[children.length - index];
+            System.arraycopy(children, 0, grown, -index, children.length);
+            children = grown;
+            low = child.letter;
+            index = 0;
+        } else if (index >= children.length){
+            children = Arrays.copyOf(children, index + 1);
+        }
+        children[index] = child;
+    }
+
+    private void toTable(){
+        AdaptiveNode[] sorted = children;
+        low = letters[0];
+        children = new AdaptiveNode[letters[numberOfChildren - 1] - low + 1];
+        for (int i = 0; i < numberOfChildren; i++) {
+            children[sorted[i].letter - low] = sorted[i];
+        }
+        letters = NO_LETTERS;
+        table = true;
+    }
+
+    private void toSortedArray(){
+        AdaptiveNode[] sorted = new AdaptiveNode[numberOfChildren * 2];
+        copyChildren(sorted, 0);
+        letters = new char[sorted.length];
+        for (int i = 0; i < numberOfChildren; i++) {
+            letters[i] = sorted[i].letter;
+        }
+        children = sorted;
+        table = false;
+    }
+}
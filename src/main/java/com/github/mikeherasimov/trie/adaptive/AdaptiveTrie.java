@@ -0,0 +1,258 @@
+package com.github.mikeherasimov.trie.adaptive;
+
+import com.github.mikeherasimov.trie.Trie;
+import com.github.mikeherasimov.trie.WordGraphs;
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+
+import java.util.Arrays;
+
+/**
+ * AdaptiveTrie is one of realization of Trie interface, where representation of children of each node
+ * is chosen by their number, like in Adaptive Radix Tree.
+ * Nodes with few children search sorted array of letters linearly, nodes with more children
+ * use binary search, and nodes with many children (usually nodes near root) find child directly by letter.
+ * So lookup doesn't make long scans of brothers, which LinkedTrie makes in nodes with many children.
+ */
+public final class AdaptiveTrie implements Trie {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private AdaptiveNode root;
+
+    /**
+     * Returns new AdaptiveTrie object, that can hold any <code>String</code>`s.
+     * More formally its alphabet contains all UTF characters.
+     */
+    public AdaptiveTrie(){
+        root = new AdaptiveNode();
+    }
+
+    /**
+     * Appends specified word to this AdaptiveTrie.
+     *
+     * @param word  word to be added to this Trie
+     */
+    @Override
+    public void add(String word) {
+        if (word.length() == 0){
+            return;
+        }
+        AdaptiveNode current = root;
+        for (int i = 0; i < word.length(); i++) {
+            current = current.addChild(word.charAt(i));
+        }
+        if (!current.getEOW()){
+            current.setAsEOW();
+            size++;
+        }
+    }
+
+    /**
+     * Removes specified word from this AdaptiveTrie.
+     * Nodes, which don't lead to any word after removal, are removed from their ancestors.
+     *
+     * @param word  word to be removed from this Trie
+     * @return      <code>true</code> if this AdaptiveTrie contained specified word
+     */
+    @Override
+    public boolean remove(String word) {
+        int length = word.length();
+        AdaptiveNode[] path = new AdaptiveNode[length + 1];
+        path[0] = root;
+        for (int i = 0; i < length; i++) {
+            path[i + 1] = path[i].getChild(word.charAt(i));
+            if (path[i + 1] == null){
+                return false;
+            }
+        }
+        if (length == 0 || !path[length].getEOW()){
+            return false;
+        }
+
+        path[length].unsetAsEOW();
+        size--;
+        for (int i = length; i > 0 && path[i].numberOfChildren() == 0 && !path[i].getEOW(); i--) {
+            path[i - 1].removeChild(path[i].getLetter());
+        }
+        return true;
+    }
+
+    /**
+     * Makes optimization of this AdaptiveTrie to DAWG and returns respective DAWG object.
+     * Words of this AdaptiveTrie are enumerated in lexicographic order and supplied to <code>DAWGBuilder</code>,
+     * so minimal LinkedDAWG is built without copying of this AdaptiveTrie.
+     *
+     * @return  <code>DAWG</code> object
+     */
+    @Override
+    public LinkedDAWG toDAWG() {
+        final DAWGBuilder builder = new DAWGBuilder();
+        AdaptiveNode[] stack = new AdaptiveNode[INITIAL_CAPACITY];
+        int[] depths = new int[INITIAL_CAPACITY];
+        char[] word = new char[INITIAL_CAPACITY];
+        int top = 0;
+        stack[top++] = root;
+
+        while (top > 0) {
+            top--;
+            AdaptiveNode current = stack[top];
+            int depth = depths[top];
+            stack[top] = null;
+            if (current != root){
+                if (depth > word.length){
+                    word = Arrays.copyOf(word, word.length * 2);
+                }
+                word[depth - 1] = current.getLetter();
+                if (current.getEOW()){
+                    builder.add(new String(word, 0, depth));
+                }
+            }
+
+            int count = current.numberOfChildren();
+            if (top + count > stack.length){
+                int capacity = Math.max(top + count, stack.length * 2);
+                stack = Arrays.copyOf(stack, capacity);
+                depths = Arrays.copyOf(depths, capacity);
+            }
+            current.copyChildren(stack, top);
+            reverse(stack, top, top + count);
+            Arrays.fill(depths, top, top + count, depth + 1);
+            top += count;
+        }
+        return builder.build();
+    }
+
+    private static void reverse(AdaptiveNode[] nodes, int from, int to){
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            AdaptiveNode temp = nodes[i];
+            nodes[i] = nodes[j];
+            nodes[j] = temp;
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        root = new AdaptiveNode();
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        AdaptiveNode lastNode = searchNodeBySequence(word);
+        return lastNode != null && lastNode.getEOW();
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return searchNodeBySequence(prefix) != null;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        AdaptiveNode current = root;
+        for (int i = from; i < text.length(); i++) {
+            current = current.getChild(text.charAt(i));
+            if (current == null){
+                break;
+            }
+            if (current.getEOW()){
+                longest = i + 1 - from;
+            }
+        }
+        return longest;
+    }
+
+    private AdaptiveNode searchNodeBySequence(CharSequence sequence){
+        AdaptiveNode current = root;
+        for (int i = 0; i < sequence.length() && current != null; i++) {
+            current = current.getChild(sequence.charAt(i));
+        }
+        return current;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) return true;
+        if(!(obj instanceof AdaptiveTrie)) return false;
+        AdaptiveTrie trie = (AdaptiveTrie) obj;
+        return size == trie.size && equalSubtries(root, trie.root);
+    }
+
+    /**
+     * Returns hash code of words of this AdaptiveTrie, which doesn't depend on layouts of nodes,
+     * since children are visited in order of their letters by any layout.
+     *
+     * @return  hash code of this AdaptiveTrie
+     */
+    @Override
+    public int hashCode() {
+        AdaptiveNode[] stack = new AdaptiveNode[INITIAL_CAPACITY];
+        int top = 0;
+        int result = size;
+        stack[top++] = root;
+        while (top > 0) {
+            AdaptiveNode current = stack[--top];
+            int count = current.numberOfChildren();
+            result = 31 * result + current.getLetter();
+            result = 31 * result + (current.getEOW() ? 1 : 0);
+            result = 31 * result + count;
+            if (top + count > stack.length){
+                stack = Arrays.copyOf(stack, Math.max(top + count, stack.length * 2));
+            }
+            current.copyChildren(stack, top);
+            top += count;
+        }
+        return result;
+    }
+
+    private static boolean equalSubtries(AdaptiveNode first, AdaptiveNode second){
+        AdaptiveNode[] firstStack = new AdaptiveNode[INITIAL_CAPACITY];
+        AdaptiveNode[] secondStack = new AdaptiveNode[INITIAL_CAPACITY];
+        int top = 0;
+        firstStack[top] = first;
+        secondStack[top++] = second;
+
+        while (top > 0) {
+            top--;
+            first = firstStack[top];
+            second = secondStack[top];
+            int count = first.numberOfChildren();
+            if (first.getLetter() != second.getLetter() || first.getEOW() != second.getEOW() ||
+                    count != second.numberOfChildren()){
+                return false;
+            }
+            if (top + count > firstStack.length){
+                int capacity = Math.max(top + count, firstStack.length * 2);
+                firstStack = Arrays.copyOf(firstStack, capacity);
+                secondStack = Arrays.copyOf(secondStack, capacity);
+            }
+            first.copyChildren(firstStack, top);
+            second.copyChildren(secondStack, top);
+            top += count;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.mikeherasimov.trie.array;
+
+import com.github.mikeherasimov.trie.DAWG;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+
+/**
+ * ArrayDAWG represents optimized ArrayTrie data-structure.
+ */
+public final class ArrayDAWG implements DAWG, Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private ArrayTrie trie;
+
+    ArrayDAWG(ArrayTrie trie){
+        this.trie = trie;
+    }
+
+    public ArrayDAWG() {
+        this(new ArrayTrie());
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        return trie.contains(word);
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return trie.isPrefix(prefix);
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        return trie.longestPrefixMatch(text, from);
+    }
+
+    @Override
+    public int size() {
+        return trie.size();
+    }
+
+    /**
+     * Returns number of distinct nodes of this DAWG, including root.
+     * More formally returns number of occupied slots of its arrays.
+     *
+     * @return  number of distinct nodes
+     */
+    public int numberOfNodes() {
+        return trie.numberOfSlots();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        trie.writeExternal(out);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        trie.readExternal(in);
+    }
+}
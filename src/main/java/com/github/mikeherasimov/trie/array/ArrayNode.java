@@ -0,0 +1,97 @@
+package com.github.mikeherasimov.trie.array;
+
+import com.github.mikeherasimov.trie.Node;
+
+/**
+ * ArrayNode is a view of one slot of <code>ArrayTrie</code>.
+ * It is used by <code>Optimizer</code>, which works with nodes, while ArrayTrie stores only arrays.
+ * Changes of view are written to arrays of its ArrayTrie.
+ */
+class ArrayNode implements Node {
+
+    private final ArrayTrie trie;
+    private final int index;
+
+    public ArrayNode(ArrayTrie trie, int index) {
+        this.trie = trie;
+        this.index = index;
+    }
+
+    public ArrayTrie getTrie() {
+        return trie;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Sets node as end-of-word node, so word, which ends at this node, is added to its ArrayTrie.
+     */
+    @Override
+    public void setAsEOW() {
+        trie.setEOW(index);
+    }
+
+    @Override
+    public char getLetter() {
+        return trie.getLetter(index);
+    }
+
+    @Override
+    public boolean getEOW() {
+        return trie.getEOW(index);
+    }
+
+    public int numberOfNodesInSubtrie(){
+        int count = 1;
+        for (int code = trie.nextChildCode(index, 0); code != 0; code = trie.nextChildCode(index, code)) {
+            count += new ArrayNode(trie, trie.transition(index, code)).numberOfNodesInSubtrie();
+        }
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + getLetter() + " " + getEOW() + "]";
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) return true;
+        if(!(obj instanceof ArrayNode)) return false;
+        ArrayNode node = (ArrayNode) obj;
+        return node.getLetter() == getLetter() && node.getEOW() == getEOW() && equalChildren(node);
+    }
+
+    private boolean equalChildren(ArrayNode node){
+        if (trie == node.trie && trie.getBase(index) == trie.getBase(node.index)){
+            return true;
+        }
+        int count = 0;
+        for (int code = trie.nextChildCode(index, 0); code != 0; code = trie.nextChildCode(index, code)) {
+            int child = trie.transition(index, code);
+            int other = node.trie.transition(node.index, node.trie.codeOf(trie.getLetter(child)));
+            if (other < 0 || !new ArrayNode(trie, child).equals(new ArrayNode(node.trie, other))){
+                return false;
+            }
+            count++;
+        }
+        for (int code = node.trie.nextChildCode(node.index, 0); code != 0;
+             code = node.trie.nextChildCode(node.index, code)) {
+            count--;
+        }
+        return count == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 17;
+        result = 31 * result + (getEOW() ? 1:0);
+        result = 31 * result + getLetter();
+        for (int code = trie.nextChildCode(index, 0); code != 0; code = trie.nextChildCode(index, code)) {
+            result += new ArrayNode(trie, trie.transition(index, code)).hashCode();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.mikeherasimov.trie.array;
+
+import com.github.mikeherasimov.trie.OptimizerBehaviour;
+
+/**
+ * Duplicate nodes of ArrayTrie are eliminated by sharing block of children:
+ * base of duplicate is replaced by base of remaining node.
+ * Letter and EOW flag of node are stored in slot of its ancestor`s block, so they aren't a part of node`s signature:
+ * nodes, which differ only by them, share the same block of children.
+ */
+class ArrayOptimizerBehaviour implements OptimizerBehaviour<ArrayNode> {
+    public static final ArrayOptimizerBehaviour INSTANCE = new ArrayOptimizerBehaviour();
+
+    private ArrayOptimizerBehaviour(){
+
+    }
+
+    @Override
+    public void changeRefs(ArrayNode ancestor, ArrayNode internal, ArrayNode dest) {
+        ArrayTrie trie = internal.getTrie();
+        trie.setBase(internal.getIndex(), trie.getBase(dest.getIndex()));
+    }
+
+    @Override
+    public int countNodes(ArrayNode current) {
+        return current.numberOfNodesInSubtrie();
+    }
+
+    @Override
+    public int signatureHashCode(ArrayNode node) {
+        ArrayTrie trie = node.getTrie();
+        int index = node.getIndex();
+        int result = 0;
+        for (int code = trie.nextChildCode(index, 0); code != 0; code = trie.nextChildCode(index, code)) {
+            int child = trie.transition(index, code);
+            result = 31 * result + code;
+            result = 31 * result + trie.getBase(child);
+            result = 31 * result + (trie.getEOW(child) ? 1:0);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean signatureEquals(ArrayNode first, ArrayNode second) {
+        ArrayTrie trie = first.getTrie();
+        int firstIndex = first.getIndex();
+        int secondIndex = second.getIndex();
+        int firstCode = trie.nextChildCode(firstIndex, 0);
+        int secondCode = trie.nextChildCode(secondIndex, 0);
+        while (firstCode != 0 && firstCode == secondCode) {
+            int firstChild = trie.transition(firstIndex, firstCode);
+            int secondChild = trie.transition(secondIndex, secondCode);
+            if (trie.getBase(firstChild) != trie.getBase(secondChild) ||
+                    trie.getEOW(firstChild) != trie.getEOW(secondChild)){
+                return false;
+            }
+            firstCode = trie.nextChildCode(firstIndex, firstCode);
+            secondCode = trie.nextChildCode(secondIndex, secondCode);
+        }
+        return firstCode == secondCode;
+    }
+}
@@ -0,0 +1,68 @@
+package com.github.mikeherasimov.trie.array;
+
+import com.github.mikeherasimov.trie.SubtrieConverter;
+import gnu.trove.list.array.TIntArrayList;
+
+/**
+ * Converts ArrayTrie to arrays, required by <code>Optimizer</code>.
+ * Nodes are stored in preorder, so descendants of node always have bigger indexes than node itself.
+ */
+class ArraySubtrieConverter implements SubtrieConverter<ArrayNode> {
+    private static final int ROOT = 0;
+
+    private final ArrayTrie trie;
+    private final TIntArrayList slots = new TIntArrayList();
+    private final TIntArrayList ancestors = new TIntArrayList();
+
+    public ArraySubtrieConverter(ArrayTrie trie){
+        this.trie = trie;
+        collect();
+    }
+
+    private void collect(){
+        TIntArrayList stack = new TIntArrayList();
+        TIntArrayList stackAncestors = new TIntArrayList();
+        stack.add(ROOT);
+        stackAncestors.add(0);
+        while (!stack.isEmpty()) {
+            int last = stack.size() - 1;
+            int slot = stack.removeAt(last);
+            int ancestor = stackAncestors.removeAt(last);
+            int index = slots.size();
+            slots.add(slot);
+            ancestors.add(ancestor);
+
+            int childrenFrom = stack.size();
+            for (int code = trie.nextChildCode(slot, 0); code != 0; code = trie.nextChildCode(slot, code)) {
+                stack.add(trie.transition(slot, code));
+                stackAncestors.add(index);
+            }
+            stack.reverse(childrenFrom, stack.size());
+        }
+    }
+
+    @Override
+    public ArrayNode[] getNodes() {
+        ArrayNode[] nodes = new ArrayNode[slots.size()];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new ArrayNode(trie, slots.get(i));
+        }
+        return nodes;
+    }
+
+    @Override
+    public int[] getAncestorIndexes() {
+        return ancestors.toArray();
+    }
+
+    @Override
+    public int[] getLeafIndexes() {
+        TIntArrayList leafIndexes = new TIntArrayList();
+        for (int i = 0; i < slots.size(); i++) {
+            if (trie.getBase(slots.get(i)) == 0){
+                leafIndexes.add(i);
+            }
+        }
+        return leafIndexes.toArray();
+    }
+}
@@ -0,0 +1,518 @@
+package com.github.mikeherasimov.trie.array;
+
+import com.github.mikeherasimov.trie.Optimizer;
+import com.github.mikeherasimov.trie.Trie;
+import com.github.mikeherasimov.trie.WordGraphs;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * ArrayTrie is one of realization of Trie interface, based on double-array trie.
+ * All nodes are stored in three parallel arrays (<code>base</code>, <code>check</code> and <code>eows</code>),
+ * where each node is represented by index of slot. Children of node are stored in block, which starts
+ * at <code>base</code> of node, so child with letter code <code>c</code> is placed in slot <code>base + c</code>.
+ * <code>check</code> of slot contains code of its letter, which allows to check if transition exists.
+ * So transition to child takes constant time regardless of number of children.
+ * <p>
+ * Letters are encoded by codes in order of their first appearance, so alphabet of trie
+ * contains only letters of added words.
+ * <p>
+ * Search of free block starts from slot <code>nextCheckSlot</code>, which is moved forward over scanned regions,
+ * where almost all slots are occupied (as in common double-array builders), so adding of words doesn't rescan
+ * the dense beginning of arrays. It is moved over long scans too, even if they have passed many free slots,
+ * which can't start the block, so such slots are given up for speed of building.
+ * Slots, which are released behind it (when block of children is moved or word is removed), are tried first,
+ * but only the latest of them, so some of them stay free.
+ */
+public final class ArrayTrie implements Trie, Externalizable {
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 256;
+    private static final int ROOT = 0;
+    private static final int NO_CHILDREN = 0;
+    /**
+     * Minimal share of occupied slots in scanned region, at which region is skipped by next searches.
+     */
+    private static final double DENSE_REGION = 0.95;
+    /**
+     * Number of the latest released slots behind <code>nextCheckSlot</code>, which are tried before scan.
+     */
+    private static final int RELEASED_SLOTS = 64;
+    /**
+     * Number of free slots, which can't start the block (base of block would be used already
+     * or other children wouldn't fit), after which scanned region is skipped regardless of its density.
+     */
+    private static final int MAX_REJECTED = 64;
+    private static final int NO_SLOT = -1;
+
+    private int size;
+
+    private int[] base;
+    private int[] check;
+    private boolean[] eows;
+    private BitSet usedBases;
+    private BitSet occupied;
+    private int nextCheckSlot;
+    private int[] releasedSlots;
+    private int lastReleased;
+
+    private int[] codes;
+    private char[] letters;
+    private int alphabetSize;
+
+    /**
+     * Returns new ArrayTrie object, that can hold any <code>String</code>`s.
+     * More formally its alphabet contains all UTF characters.
+     */
+    public ArrayTrie(){
+        init();
+    }
+
+    /**
+     * Returns copy of supplied ArrayTrie object.
+     * More formally if <code>copy = new ArrayTrie(trie)</code> then <p>
+     * <code>trie != copy</code> and <p>
+     * <code>trie.equals(copy) == true</code> and <p>
+     * <code>trie.getClass() == copy.getClass()</code>
+     *
+     * @param trie  supplied <code>ArrayTrie</code> object
+     */
+    public ArrayTrie(ArrayTrie trie){
+        size = trie.size;
+        base = trie.base.clone();
+        check = trie.check.clone();
+        eows = trie.eows.clone();
+        usedBases = (BitSet) trie.usedBases.clone();
+        occupied = (BitSet) trie.occupied.clone();
+        nextCheckSlot = trie.nextCheckSlot;
+        releasedSlots = trie.releasedSlots.clone();
+        lastReleased = trie.lastReleased;
+        codes = trie.codes.clone();
+        letters = trie.letters.clone();
+        alphabetSize = trie.alphabetSize;
+    }
+
+    private void init(){
+        size = 0;
+        base = new int[INITIAL_CAPACITY];
+        check = new int[INITIAL_CAPACITY];
+        eows = new boolean[INITIAL_CAPACITY];
+        usedBases = new BitSet();
+        occupied = new BitSet();
+        nextCheckSlot = ROOT + 1;
+        releasedSlots = new int[RELEASED_SLOTS];
+        Arrays.fill(releasedSlots, NO_SLOT);
+        lastReleased = 0;
+        codes = new int[0];
+        letters = new char[1];
+        alphabetSize = 0;
+        check[ROOT] = -1;
+        occupied.set(ROOT);
+    }
+
+    /**
+     * Appends specified word to this ArrayTrie.
+     *
+     * @param word  word to be added to this Trie
+     */
+    @Override
+    public void add(String word) {
+        if (word.length() == 0){
+            return;
+        }
+        int current = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            int code = encode(word.charAt(i));
+            int next = transition(current, code);
+            current = next < 0 ? insertChild(current, code) : next;
+        }
+        setEOW(current);
+    }
+
+    /**
+     * Removes specified word from this ArrayTrie.
+     * Slots of nodes, which don't lead to any word after removal, are released,
+     * and so are blocks of children, which become empty.
+     *
+     * @param word  word to be removed from this Trie
+     * @return      <code>true</code> if this ArrayTrie contained specified word
+     */
+    @Override
+    public boolean remove(String word) {
+        int length = word.length();
+        int[] path = new int[length + 1];
+        path[0] = ROOT;
+        for (int i = 0; i < length; i++) {
+            path[i + 1] = transition(path[i], codeOf(word.charAt(i)));
+            if (path[i + 1] < 0){
+                return false;
+            }
+        }
+        if (length == 0 || !eows[path[length]]){
+            return false;
+        }
+
+        eows[path[length]] = false;
+        size--;
+        for (int i = length; i > 0 && base[path[i]] == NO_CHILDREN && !eows[path[i]]; i--) {
+            release(path[i]);
+            int ancestor = path[i - 1];
+            if (nextChildCode(ancestor, 0) == 0){
+                usedBases.clear(base[ancestor]);
+                base[ancestor] = NO_CHILDREN;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes optimization of this ArrayTrie to DAWG and returns respective DAWG object.
+     * More formally makes copy of this ArrayTrie object, makes optimization of copy, where duplicate nodes
+     * share the same block of children, and then packs all distinct blocks to new arrays.
+     *
+     * @return  <code>DAWG</code> object
+     */
+    @Override
+    public ArrayDAWG toDAWG() {
+        ArrayTrie copy = new ArrayTrie(this);
+        Optimizer<ArrayNode> optimizer =
+                new Optimizer<>(ArrayOptimizerBehaviour.INSTANCE, new ArraySubtrieConverter(copy));
+        optimizer.eliminateDuplicatesBottomUp();
+        return new ArrayDAWG(copy.compact());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void clear() {
+        init();
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        int last = searchNodeBySequence(word);
+        return last >= 0 && eows[last];
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return searchNodeBySequence(prefix) >= 0;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        int current = ROOT;
+        for (int i = from; i < text.length(); i++) {
+            current = transition(current, codeOf(text.charAt(i)));
+            if (current < 0){
+                break;
+            }
+            if (eows[current]){
+                longest = i + 1 - from;
+            }
+        }
+        return longest;
+    }
+
+    private int searchNodeBySequence(CharSequence sequence){
+        int current = ROOT;
+        for (int i = 0; i < sequence.length() && current >= 0; i++) {
+            current = transition(current, codeOf(sequence.charAt(i)));
+        }
+        return current;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    int numberOfSlots(){
+        return occupied.cardinality();
+    }
+
+    int transition(int node, int code){
+        int slot = base[node] + code;
+        if (code == 0 || base[node] == NO_CHILDREN || slot >= check.length || check[slot] != code){
+            return -1;
+        }
+        return slot;
+    }
+
+    int nextChildCode(int node, int code){
+        if (base[node] == NO_CHILDREN){
+            return 0;
+        }
+        for (int c = code + 1; c <= alphabetSize; c++) {
+            if (transition(node, c) >= 0){
+                return c;
+            }
+        }
+        return 0;
+    }
+
+    int getBase(int node){
+        return base[node];
+    }
+
+    void setBase(int node, int base){
+        this.base[node] = base;
+    }
+
+    void setEOW(int node){
+        if (!eows[node]){
+            eows[node] = true;
+            size++;
+        }
+    }
+
+    boolean getEOW(int node){
+        return eows[node];
+    }
+
+    char getLetter(int node){
+        return node == ROOT ? '\0' : letters[check[node]];
+    }
+
+    int codeOf(char letter){
+        return letter < codes.length ? codes[letter] : 0;
+    }
+
+    private int encode(char letter){
+        int code = codeOf(letter);
+        if (code == 0){
+            if (letter >= codes.length){
+                codes = Arrays.copyOf(codes, Math.max(letter + 1, codes.length * 2));
+            }
+            code = ++alphabetSize;
+            codes[letter] = code;
+            if (code >= letters.length){
+                letters = Arrays.copyOf(letters, letters.length * 2);
+            }
+            letters[code] = letter;
+        }
+        return code;
+    }
+
+    private int insertChild(int node, int code){
+        if (base[node] != NO_CHILDREN){
+            int slot = base[node] + code;
+            if (slot >= check.length || check[slot] == 0){
+                occupy(slot, code);
+                return slot;
+            }
+        }
+
+        int[] childCodes = childCodes(node, code);
+        int newBase = findBase(childCodes);
+        if (base[node] != NO_CHILDREN){
+            moveChildren(node, newBase, childCodes);
+        }
+        usedBases.set(newBase);
+        base[node] = newBase;
+        occupy(newBase + code, code);
+        return newBase + code;
+    }
+
+    private int[] childCodes(int node, int newCode){
+        int[] existing = childCodesOf(node);
+        int[] childCodes = Arrays.copyOf(existing, existing.length + 1);
+        childCodes[existing.length] = newCode;
+        return childCodes;
+    }
+
+    private int findBase(int[] childCodes){
+        int first = childCodes[0];
+        for (int i = 0; i < RELEASED_SLOTS; i++) {
+            int released = releasedSlots[i];
+            if (released != NO_SLOT && !occupied.get(released) && isFreeBlock(released - first, childCodes)){
+                releasedSlots[i] = NO_SLOT;
+                return released - first;
+            }
+        }
+        int start = Math.max(first + 1, nextCheckSlot);
+        int slot = occupied.nextClearBit(start);
+        int rejected = 0;
+        while (!isFreeBlock(slot - first, childCodes)) {
+            rejected++;
+            slot = occupied.nextClearBit(slot + 1);
+        }
+        if (rejected <= (1 - DENSE_REGION) * (slot - start) || rejected >= MAX_REJECTED){
+            nextCheckSlot = slot;
+        }
+        return slot - first;
+    }
+
+    private boolean isFreeBlock(int candidate, int[] childCodes){
+        if (candidate <= 0 || usedBases.get(candidate)){
+            return false;
+        }
+        for (int code : childCodes) {
+            if (occupied.get(candidate + code)){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void moveChildren(int node, int newBase, int[] childCodes){
+        int oldBase = base[node];
+        for (int i = 0; i < childCodes.length - 1; i++) {
+            int code = childCodes[i];
+            int from = oldBase + code;
+            int to = newBase + code;
+            occupy(to, code);
+            base[to] = base[from];
+            eows[to] = eows[from];
+            release(from);
+        }
+        usedBases.clear(oldBase);
+    }
+
+    private void occupy(int slot, int code){
+        ensureCapacity(slot + 1);
+        check[slot] = code;
+        occupied.set(slot);
+    }
+
+    private void release(int slot){
+        check[slot] = 0;
+        base[slot] = NO_CHILDREN;
+        eows[slot] = false;
+        occupied.clear(slot);
+        if (slot < nextCheckSlot){
+            lastReleased = (lastReleased + 1) % RELEASED_SLOTS;
+            releasedSlots[lastReleased] = slot;
+        }
+    }
+
+    private void ensureCapacity(int capacity){
+        if (check.length < capacity){
+            int newCapacity = Math.max(capacity, check.length * 2);
+            base = Arrays.copyOf(base, newCapacity);
+            check = Arrays.copyOf(check, newCapacity);
+            eows = Arrays.copyOf(eows, newCapacity);
+        }
+    }
+
+    /**
+     * Returns new ArrayTrie, where each distinct block of children of this ArrayTrie
+     * (that is shared by duplicate nodes after optimization) is stored only once.
+     * Blocks, which aren't reachable from root, are dropped.
+     */
+    private ArrayTrie compact(){
+        ArrayTrie compacted = new ArrayTrie();
+        compacted.size = size;
+        compacted.codes = codes;
+        compacted.letters = letters;
+        compacted.alphabetSize = alphabetSize;
+
+        int[] newBases = new int[check.length];
+        int[] queue = new int[INITIAL_CAPACITY];
+        int[] copies = new int[INITIAL_CAPACITY];
+        int head = 0;
+        int tail = 1;
+        while (head < tail) {
+            int oldBase = base[queue[head++]];
+            if (oldBase == NO_CHILDREN || newBases[oldBase] != 0){
+                continue;
+            }
+            int[] childCodes = childCodesOf(queue[head - 1]);
+            int newBase = compacted.findBase(childCodes);
+            compacted.usedBases.set(newBase);
+            newBases[oldBase] = newBase;
+            for (int code : childCodes) {
+                if (tail == queue.length){
+                    queue = Arrays.copyOf(queue, tail * 2);
+                    copies = Arrays.copyOf(copies, tail * 2);
+                }
+                compacted.occupy(newBase + code, code);
+                compacted.eows[newBase + code] = eows[oldBase + code];
+                queue[tail] = oldBase + code;
+                copies[tail++] = newBase + code;
+            }
+        }
+
+        for (int i = 0; i < tail; i++) {
+            int oldBase = base[queue[i]];
+            compacted.base[copies[i]] = oldBase == NO_CHILDREN ? NO_CHILDREN : newBases[oldBase];
+        }
+        return compacted;
+    }
+
+    private int[] childCodesOf(int node){
+        int count = 0;
+        for (int c = nextChildCode(node, 0); c != 0; c = nextChildCode(node, c)) {
+            count++;
+        }
+        int[] childCodes = new int[count];
+        count = 0;
+        for (int c = nextChildCode(node, 0); c != 0; c = nextChildCode(node, c)) {
+            childCodes[count++] = c;
+        }
+        return childCodes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if(obj == this) return true;
+        if(!(obj instanceof ArrayTrie)) return false;
+        ArrayTrie trie = (ArrayTrie) obj;
+        return size == trie.size && new ArrayNode(this, ROOT).equals(new ArrayNode(trie, ROOT));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * size + new ArrayNode(this, ROOT).hashCode();
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        int length = occupied.length();
+        out.writeInt(size);
+        out.writeObject(Arrays.copyOfRange(letters, 0, alphabetSize + 1));
+        out.writeObject(Arrays.copyOf(base, Math.min(length, base.length)));
+        out.writeObject(Arrays.copyOf(check, Math.min(length, check.length)));
+        out.writeObject(Arrays.copyOf(eows, Math.min(length, eows.length)));
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        init();
+        size = in.readInt();
+        char[] alphabet = (char[]) in.readObject();
+        for (int code = 1; code < alphabet.length; code++) {
+            encode(alphabet[code]);
+        }
+        base = (int[]) in.readObject();
+        check = (int[]) in.readObject();
+        eows = (boolean[]) in.readObject();
+        for (int i = 0; i < check.length; i++) {
+            if (check[i] != 0){
+                occupied.set(i);
+            }
+            if (base[i] != NO_CHILDREN){
+                usedBases.set(base[i]);
+            }
+        }
+    }
+}
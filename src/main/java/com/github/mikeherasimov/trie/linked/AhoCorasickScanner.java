@@ -0,0 +1,320 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * AhoCorasickScanner finds all occurrences of words of LinkedTrie (terms) in text in one pass.
+ * Scanner is compiled from trie: its states are prefixes of terms, numbered in breadth-first order,
+ * and children of each state are numbered consecutively in order of their letters, so transitions are stored
+ * in compressed form (letter of each state and index of the first child of each state) and are searched
+ * linearly or by binary search. Transitions of root are stored in direct table by letter.
+ * <p>
+ * Each state has failure link to the state of its longest proper suffix, which is prefix of some term,
+ * and output link to the state of its longest proper suffix, which is term. When text goes on with letter,
+ * which doesn't continue current state, scanner follows failure links, so each letter of text
+ * is processed in amortized constant time regardless of number of terms, and all terms, that end
+ * at position of text, are found by output links.
+ * <p>
+ * Term is identified by its index in lexicographic order of terms (<code>termAt()</code> returns term by index).
+ * Scanner is immutable, so it can be shared by threads, which scan different texts.
+ */
+public final class AhoCorasickScanner {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int BUFFER_SIZE = 8192;
+    private static final int LINEAR_SEARCH_THRESHOLD = 8;
+    private static final int ROOT = 0;
+    private static final int NONE = -1;
+
+    private int numberOfStates;
+    private char[] letters;
+    private int[] firstChildren;
+    private int[] parents;
+    private int[] depths;
+    private boolean[] eows;
+    private int[] failures;
+    private int[] outputs;
+    private int[] termIds;
+    private int[] termStates;
+    private int[] rootTransitions;
+
+    /**
+     * Returns scanner, that finds words of supplied LinkedTrie.
+     * Scanner doesn't depend on trie after compilation.
+     *
+     * @param trie  supplied <code>LinkedTrie</code> object
+     */
+    public AhoCorasickScanner(LinkedTrie trie){
+        createStates(trie.getRoot());
+        numberTerms();
+        createRootTransitions();
+        createLinks();
+        eows = null;
+    }
+
+    /**
+     * Returns scanner, that finds words of supplied LinkedDAWG.
+     * Shared nodes of DAWG are expanded to separate states, because their failure links differ.
+     *
+     * @param dawg  supplied <code>LinkedDAWG</code> object
+     */
+    public AhoCorasickScanner(LinkedDAWG dawg){
+        this(dawg.getTrie());
+    }
+
+    private void createStates(LinkedNode root){
+        LinkedNode[] nodes = new LinkedNode[INITIAL_CAPACITY];
+        letters = new char[INITIAL_CAPACITY];
+        firstChildren = new int[INITIAL_CAPACITY];
+        parents = new int[INITIAL_CAPACITY];
+        depths = new int[INITIAL_CAPACITY];
+        eows = new boolean[INITIAL_CAPACITY];
+        nodes[ROOT] = root;
+        parents[ROOT] = NONE;
+        numberOfStates = 1;
+
+        long[] keys = new long[INITIAL_CAPACITY];
+        LinkedNode[] children = new LinkedNode[INITIAL_CAPACITY];
+        for (int state = 0; state < numberOfStates; state++) {
+            int count = 0;
+            for (LinkedNode child = nodes[state].getChild(); child != null; child = child.getBrother()) {
+                if (count == keys.length){
+                    keys = Arrays.copyOf(keys, count * 2);
+                    children = Arrays.copyOf(children, count * 2);
+                }
+                keys[count] = (long) child.getLetter() << 32 | count;
+                children[count++] = child;
+            }
+            Arrays.sort(keys, 0, count);
+            nodes[state] = null;
+
+            if (numberOfStates + count + 1 > nodes.length){
+                int capacity = Math.max(numberOfStates + count + 1, nodes.length * 2);
+                nodes = Arrays.copyOf(nodes, capacity);
+                letters = Arrays.copyOf(letters, capacity);
+                firstChildren = Arrays.copyOf(firstChildren, capacity);
+                parents = Arrays.copyOf(parents, capacity);
+                depths = Arrays.copyOf(depths, capacity);
+                eows = Arrays.copyOf(eows, capacity);
+            }
+            firstChildren[state] = numberOfStates;
+            for (int i = 0; i < count; i++) {
+                LinkedNode child = children[(int) keys[i]];
+                children[(int) keys[i]] = null;
+                nodes[numberOfStates] = child;
+                letters[numberOfStates] = child.getLetter();
+                parents[numberOfStates] = state;
+                depths[numberOfStates] = depths[state] + 1;
+                eows[numberOfStates++] = child.getEOW();
+            }
+        }
+        firstChildren[numberOfStates] = numberOfStates;
+
+        letters = Arrays.copyOf(letters, numberOfStates);
+        firstChildren = Arrays.copyOf(firstChildren, numberOfStates + 1);
+        parents = Arrays.copyOf(parents, numberOfStates);
+        depths = Arrays.copyOf(depths, numberOfStates);
+    }
+
+    /**
+     * Numbers terms in lexicographic order by preorder traversal of states,
+     * where children are visited in order of their letters.
+     */
+    private void numberTerms(){
+        termIds = new int[numberOfStates];
+        Arrays.fill(termIds, NONE);
+        termStates = new int[INITIAL_CAPACITY];
+        int numberOfTerms = 0;
+
+        int[] stack = new int[INITIAL_CAPACITY];
+        int top = 0;
+        stack[top++] = ROOT;
+        while (top > 0) {
+            int state = stack[--top];
+            if (eows[state]){
+                if (numberOfTerms == termStates.length){
+                    termStates = Arrays.copyOf(termStates, numberOfTerms * 2);
+                }
+                termStates[numberOfTerms] = state;
+                termIds[state] = numberOfTerms++;
+            }
+            int from = firstChildren[state];
+            int to = firstChildren[state + 1];
+            if (top + to - from > stack.length){
+                stack = Arrays.copyOf(stack, Math.max(top + to - from, stack.length * 2));
+            }
+            for (int child = to - 1; child >= from; child--) {
+                stack[top++] = child;
+            }
+        }
+        termStates = Arrays.copyOf(termStates, numberOfTerms);
+    }
+
+    private void createRootTransitions(){
+        int from = firstChildren[ROOT];
+        int to = firstChildren[ROOT + 1];
+        rootTransitions = new int[to > from ? letters[to - 1] + 1 : 0];
+        Arrays.fill(rootTransitions, NONE);
+        for (int child = from; child < to; child++) {
+            rootTransitions[letters[child]] = child;
+        }
+    }
+
+    /**
+     * Computes failure and output links of states in breadth-first order,
+     * so links of shorter prefixes are known when links of longer prefixes are computed.
+     */
+    private void createLinks(){
+        failures = new int[numberOfStates];
+        outputs = new int[numberOfStates];
+        failures[ROOT] = ROOT;
+        outputs[ROOT] = NONE;
+        for (int state = 1; state < numberOfStates; state++) {
+            int parent = parents[state];
+            int failure = ROOT;
+            if (parent != ROOT){
+                failure = next(failures[parent], letters[state]);
+            }
+            failures[state] = failure;
+            outputs[state] = termIds[failure] != NONE ? failure : outputs[failure];
+        }
+    }
+
+    /**
+     * Returns state, which text goes to from supplied state by supplied letter,
+     * following failure links while state has no such transition.
+     */
+    private int next(int state, char letter){
+        while (true) {
+            int child = transition(state, letter);
+            if (child != NONE){
+                return child;
+            }
+            if (state == ROOT){
+                return ROOT;
+            }
+            state = failures[state];
+        }
+    }
+
+    private int transition(int state, char letter){
+        if (state == ROOT){
+            return letter < rootTransitions.length ? rootTransitions[letter] : NONE;
+        }
+        int from = firstChildren[state];
+        int to = firstChildren[state + 1];
+        if (to - from <= LINEAR_SEARCH_THRESHOLD){
+            for (int child = from; child < to; child++) {
+                if (letters[child] == letter){
+                    return child;
+                }
+            }
+            return NONE;
+        }
+        int child = Arrays.binarySearch(letters, from, to, letter);
+        return child >= 0 ? child : NONE;
+    }
+
+    /**
+     * Passes all occurrences of terms, which end at supplied position of text, to listener.
+     *
+     * @return  number of occurrences
+     */
+    private int report(int state, long end, MatchListener listener){
+        int count = 0;
+        for (int match = termIds[state] != NONE ? state : outputs[state]; match != NONE; match = outputs[match]) {
+            listener.match(end - depths[match], end, termIds[match]);
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Finds all occurrences of terms in text, including overlapping ones, and passes them to listener
+     * in order of their ends (occurrences with the same end go from the longest to the shortest).
+     *
+     * @param text      text to be scanned
+     * @param listener  listener of occurrences
+     * @return          number of occurrences
+     */
+    public long scan(CharSequence text, MatchListener listener) {
+        long matches = 0;
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            matches += report(state, i + 1, listener);
+        }
+        return matches;
+    }
+
+    /**
+     * Finds all occurrences of terms in text, supplied by reader, in the same way as <code>scan(CharSequence)</code>.
+     * Text is read by blocks into one buffer, so text of any length can be scanned,
+     * and positions of occurrences are counted from the first character, read by this invocation.
+     * Reader isn't closed.
+     *
+     * @param reader        reader of text to be scanned
+     * @param listener      listener of occurrences
+     * @return              number of occurrences
+     * @throws IOException  if an I/O error occurs
+     */
+    public long scan(Reader reader, MatchListener listener) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        long matches = 0;
+        long position = 0;
+        int state = ROOT;
+        int read;
+        while ((read = reader.read(buffer)) != -1) {
+            for (int i = 0; i < read; i++) {
+                state = next(state, buffer[i]);
+                matches += report(state, ++position, listener);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns term by its index.
+     *
+     * @param termId                      index of term in lexicographic order
+     * @return                            term
+     * @throws IndexOutOfBoundsException  if there is no term with such index
+     */
+    public String termAt(int termId) {
+        if (termId < 0 || termId >= termStates.length){
+            throw new IndexOutOfBoundsException("Term id: " + termId + ", number of terms: " + termStates.length);
+        }
+        int state = termStates[termId];
+        char[] term = new char[depths[state]];
+        for (int i = term.length - 1; i >= 0; i--) {
+            term[i] = letters[state];
+            state = parents[state];
+        }
+        return new String(term);
+    }
+
+    public int numberOfTerms() {
+        return termStates.length;
+    }
+
+    public int numberOfStates() {
+        return numberOfStates;
+    }
+
+    /**
+     * MatchListener receives occurrences of terms, found by scanner.
+     */
+    public interface MatchListener {
+
+        /**
+         * Receives the next occurrence of term.
+         *
+         * @param start   position of the first character of occurrence in text
+         * @param end     position after the last character of occurrence in text
+         * @param termId  index of term in lexicographic order
+         */
+        void match(long start, long end, int termId);
+
+    }
+}
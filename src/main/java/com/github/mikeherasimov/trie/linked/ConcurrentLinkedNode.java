@@ -0,0 +1,88 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.Node;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * ConcurrentLinkedNode is node of ConcurrentLinkedTrie.
+ * References to child and brother can be set only once, from <code>null</code> to node, using compare-and-set,
+ * so nodes are never removed from lists of brothers and readers don't need any locks.
+ */
+final class ConcurrentLinkedNode implements Node {
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedNode, ConcurrentLinkedNode> CHILD_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLinkedNode.class, ConcurrentLinkedNode.class, "child");
+    private static final AtomicReferenceFieldUpdater<ConcurrentLinkedNode, ConcurrentLinkedNode> BROTHER_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(ConcurrentLinkedNode.class, ConcurrentLinkedNode.class, "brother");
+    private static final AtomicIntegerFieldUpdater<ConcurrentLinkedNode> EOW_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(ConcurrentLinkedNode.class, "EOW");
+
+    private final char letter;
+    private volatile int EOW;
+
+    private volatile ConcurrentLinkedNode brother;
+    private volatile ConcurrentLinkedNode child;
+
+    public ConcurrentLinkedNode() {
+        this('\0');
+    }
+
+    public ConcurrentLinkedNode(char letter) {
+        this.letter = letter;
+    }
+
+    @Override
+    public void setAsEOW() {
+        EOW = 1;
+    }
+
+    /**
+     * Sets node as end-of-word node if it isn't end-of-word node yet.
+     *
+     * @return  <code>true</code> if node became end-of-word node as result of this call
+     */
+    public boolean compareAndSetAsEOW() {
+        return EOW == 0 && EOW_UPDATER.compareAndSet(this, 0, 1);
+    }
+
+    /**
+     * Unsets EOW flag of node if it is end-of-word node.
+     *
+     * @return  <code>true</code> if node stopped being end-of-word node as result of this call
+     */
+    public boolean compareAndUnsetAsEOW() {
+        return EOW == 1 && EOW_UPDATER.compareAndSet(this, 1, 0);
+    }
+
+    @Override
+    public char getLetter() {
+        return letter;
+    }
+
+    @Override
+    public boolean getEOW() {
+        return EOW != 0;
+    }
+
+    public ConcurrentLinkedNode getChild() {
+        return child;
+    }
+
+    public ConcurrentLinkedNode getBrother() {
+        return brother;
+    }
+
+    public boolean compareAndSetChild(ConcurrentLinkedNode expect, ConcurrentLinkedNode update) {
+        return CHILD_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    public boolean compareAndSetBrother(ConcurrentLinkedNode expect, ConcurrentLinkedNode update) {
+        return BROTHER_UPDATER.compareAndSet(this, expect, update);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + letter + " " + getEOW() + "]";
+    }
+}
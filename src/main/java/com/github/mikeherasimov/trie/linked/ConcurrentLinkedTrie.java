@@ -0,0 +1,230 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.Trie;
+import com.github.mikeherasimov.trie.WordGraphs;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ConcurrentLinkedTrie is thread-safe realization of Trie interface with the same node structure as LinkedTrie.
+ * Words can be added by many threads concurrently: new node is appended to the end of list of brothers
+ * by compare-and-set of <code>null</code> reference, so no locks are used and nodes are never moved.
+ * Methods <code>contains()</code> and <code>isPrefix()</code> don't use locks either,
+ * they see every word, which addition was completed before they started.
+ * <p>
+ * Root node and number of words are kept together in generation, which is replaced by <code>clear()</code>
+ * as a whole, so links of nodes are still never reset. Addition or removal, that is concurrent with
+ * <code>clear()</code>, either completes in the old generation (and is discarded with it)
+ * or in the new one, so <code>size()</code> always matches words of the current generation.
+ * <code>toDAWG()</code> optimizes snapshot of words, which were added at the moment of its invocation.
+ */
+public final class ConcurrentLinkedTrie implements Trie {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final AtomicReference<Generation> generation = new AtomicReference<>(new Generation());
+
+    /**
+     * Appends specified word to this ConcurrentLinkedTrie.
+     *
+     * @param word  word to be added to this Trie
+     */
+    @Override
+    public void add(String word) {
+        if (word.length() == 0){
+            return;
+        }
+        Generation current = generation.get();
+        ConcurrentLinkedNode node = current.root;
+        for (int i = 0; i < word.length(); i++) {
+            node = findOrAppendChild(node, word.charAt(i));
+        }
+        if (node.compareAndSetAsEOW()){
+            current.size.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes specified word from this ConcurrentLinkedTrie.
+     * Only end-of-word flag of last node of word is unset, nodes are never unlinked,
+     * so lists of brothers stay append-only and concurrent readers and writers don't need locks.
+     *
+     * @param word  word to be removed from this Trie
+     * @return      <code>true</code> if this ConcurrentLinkedTrie contained specified word
+     */
+    @Override
+    public boolean remove(String word) {
+        Generation current = generation.get();
+        ConcurrentLinkedNode lastNode = word.length() == 0 ? null : searchNodeBySequence(current.root, word);
+        if (lastNode != null && lastNode.compareAndUnsetAsEOW()){
+            current.size.decrementAndGet();
+            return true;
+        }
+        return false;
+    }
+
+    private ConcurrentLinkedNode findOrAppendChild(ConcurrentLinkedNode ancestor, char letter){
+        ConcurrentLinkedNode created = null;
+        ConcurrentLinkedNode current = ancestor.getChild();
+        if (current == null){
+            created = new ConcurrentLinkedNode(letter);
+            if (ancestor.compareAndSetChild(null, created)){
+                return created;
+            }
+            current = ancestor.getChild();
+        }
+        while (current.getLetter() != letter) {
+            ConcurrentLinkedNode brother = current.getBrother();
+            if (brother == null){
+                if (created == null){
+                    created = new ConcurrentLinkedNode(letter);
+                }
+                if (current.compareAndSetBrother(null, created)){
+                    return created;
+                }
+                brother = current.getBrother();
+            }
+            current = brother;
+        }
+        return current;
+    }
+
+    /**
+     * Makes optimization of snapshot of this ConcurrentLinkedTrie to DAWG and returns respective DAWG object.
+     *
+     * @return  <code>DAWG</code> object
+     */
+    @Override
+    public LinkedDAWG toDAWG() {
+        return LinkedTrie.optimize(snapshot());
+    }
+
+    /**
+     * Returns LinkedTrie, that contains all words, which were added to this ConcurrentLinkedTrie
+     * at the moment of invocation of this method.
+     *
+     * @return  <code>LinkedTrie</code> object
+     */
+    public LinkedTrie snapshot() {
+        ConcurrentLinkedNode[] originals = new ConcurrentLinkedNode[INITIAL_CAPACITY];
+        LinkedNode[] copies = new LinkedNode[INITIAL_CAPACITY];
+        LinkedNode rootCopy = new LinkedNode();
+        int top = 0;
+        int words = 0;
+        originals[top] = generation.get().root;
+        copies[top++] = rootCopy;
+        while (top > 0) {
+            ConcurrentLinkedNode original = originals[--top];
+            LinkedNode copy = copies[top];
+            originals[top] = null;
+            copies[top] = null;
+            if (top + 2 > originals.length){
+                originals = Arrays.copyOf(originals, originals.length * 2);
+                copies = Arrays.copyOf(copies, copies.length * 2);
+            }
+
+            ConcurrentLinkedNode brother = original.getBrother();
+            if (brother != null){
+                copy.setBrother(weakCopy(brother));
+                originals[top] = brother;
+                copies[top++] = copy.getBrother();
+            }
+            ConcurrentLinkedNode child = original.getChild();
+            if (child != null){
+                copy.setChild(weakCopy(child));
+                originals[top] = child;
+                copies[top++] = copy.getChild();
+            }
+            if (copy.getEOW()){
+                words++;
+            }
+        }
+        return new LinkedTrie(words, rootCopy);
+    }
+
+    private static LinkedNode weakCopy(ConcurrentLinkedNode node){
+        return new LinkedNode(node.getLetter(), node.getEOW());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Removes all nodes from this ConcurrentLinkedTrie by replacement of its generation with empty one.
+     * Words, which are added concurrently with this method, may be removed too.
+     */
+    @Override
+    public void clear() {
+        generation.set(new Generation());
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        ConcurrentLinkedNode lastNode = searchNodeBySequence(generation.get().root, word);
+        return lastNode != null && lastNode.getEOW();
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return searchNodeBySequence(generation.get().root, prefix) != null;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        ConcurrentLinkedNode current = generation.get().root;
+        for (int i = from; i < text.length(); i++) {
+            current = findChild(current, text.charAt(i));
+            if (current == null){
+                break;
+            }
+            if (current.getEOW()){
+                longest = i + 1 - from;
+            }
+        }
+        return longest;
+    }
+
+    private static ConcurrentLinkedNode searchNodeBySequence(ConcurrentLinkedNode root, CharSequence sequence){
+        ConcurrentLinkedNode current = root;
+        for (int i = 0; i < sequence.length() && current != null; i++) {
+            current = findChild(current, sequence.charAt(i));
+        }
+        return current;
+    }
+
+    private static ConcurrentLinkedNode findChild(ConcurrentLinkedNode node, char letter){
+        ConcurrentLinkedNode child = node.getChild();
+        while (child != null && child.getLetter() != letter) {
+            child = child.getBrother();
+        }
+        return child;
+    }
+
+    @Override
+    public int size() {
+        return generation.get().size.get();
+    }
+
+    /**
+     * Root node and number of words, that are reachable from it.
+     */
+    private static final class Generation {
+        private final ConcurrentLinkedNode root = new ConcurrentLinkedNode();
+        private final AtomicInteger size = new AtomicInteger();
+    }
+}
@@ -0,0 +1,179 @@
+package com.github.mikeherasimov.trie.linked;
+
+import gnu.trove.map.hash.TCustomHashMap;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * DAWGBuilder creates LinkedDAWG directly from words, supplied in lexicographic order.
+ * Minimization is made incrementally while words are added: as soon as the next word leaves
+ * a branch of previous word, nodes of that branch can't change anymore, so they are replaced by
+ * equal nodes from register of already minimized nodes (or are put to it).
+ * So construction takes time proportional to total number of characters
+ * and doesn't need intermediate <code>LinkedTrie</code>.
+ * <p>
+ * Builder can be used only once, after invocation of <code>build()</code> it doesn't accept words.
+ */
+public final class DAWGBuilder {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TCustomHashMap<LinkedNode, LinkedNode> register =
+            new TCustomHashMap<>(LinkedNodeHashingStrategy.INSTANCE);
+    private final LinkedNode root = new LinkedNode();
+
+    private LinkedNode[] path = new LinkedNode[INITIAL_CAPACITY];
+    private LinkedNode[] chain = new LinkedNode[INITIAL_CAPACITY];
+    private char[] previous = new char[INITIAL_CAPACITY];
+    private int previousLength;
+    private int size;
+    private boolean built;
+
+    /**
+     * Returns new DAWGBuilder object.
+     */
+    public DAWGBuilder(){
+        path[0] = root;
+    }
+
+    /**
+     * Appends specified word to DAWG under construction.
+     * Word has to be equal or greater (in terms of <code>String.compareTo</code>) than previously added word.
+     * Duplicates and empty words are ignored.
+     *
+     * @param word                       word to be added
+     * @return                           this builder
+     * @throws IllegalArgumentException  if word is less than previously added word
+     * @throws IllegalStateException     if <code>build()</code> was already invoked
+     */
+    public DAWGBuilder add(CharSequence word) {
+        checkNotBuilt();
+        int length = word.length();
+        if (length == 0){
+            return this;
+        }
+        int commonPrefix = commonPrefixLength(word);
+        if (commonPrefix == length && commonPrefix == previousLength){
+            return this;
+        }
+        if (commonPrefix == length ||
+                commonPrefix < previousLength && word.charAt(commonPrefix) < previous[commonPrefix]){
+            throw new IllegalArgumentException("Words have to be supplied in lexicographic order, but \"" +
+                    word + "\" goes after \"" + new String(previous, 0, previousLength) + "\"");
+        }
+
+        minimize(commonPrefix);
+        ensureCapacity(length + 1);
+        appendSuffix(word, commonPrefix);
+        size++;
+        return this;
+    }
+
+    /**
+     * Appends all words, supplied by iterable, to DAWG under construction.
+     *
+     * @param words  words in lexicographic order
+     * @return       this builder
+     * @see          #add(CharSequence)
+     */
+    public DAWGBuilder addAll(Iterable<? extends CharSequence> words) {
+        return addAll(words.iterator());
+    }
+
+    /**
+     * Appends all remaining words of iterator to DAWG under construction.
+     *
+     * @param words  words in lexicographic order
+     * @return       this builder
+     * @see          #add(CharSequence)
+     */
+    public DAWGBuilder addAll(Iterator<? extends CharSequence> words) {
+        while (words.hasNext()){
+            add(words.next());
+        }
+        return this;
+    }
+
+    /**
+     * Finishes minimization and returns LinkedDAWG, that contains all added words.
+     *
+     * @return                        <code>LinkedDAWG</code> object
+     * @throws IllegalStateException  if <code>build()</code> was already invoked
+     */
+    public LinkedDAWG build() {
+        checkNotBuilt();
+        minimize(-1);
+        built = true;
+        register.clear();
+        return new LinkedDAWG(new LinkedTrie(size, root));
+    }
+
+    private void checkNotBuilt(){
+        if (built){
+            throw new IllegalStateException("DAWG was already built");
+        }
+    }
+
+    private int commonPrefixLength(CharSequence word){
+        int limit = Math.min(word.length(), previousLength);
+        int i = 0;
+        while (i < limit && word.charAt(i) == previous[i]){
+            i++;
+        }
+        return i;
+    }
+
+    private void minimize(int depth){
+        for (int i = previousLength; i > depth; i--) {
+            replaceOrRegisterChildren(path[i]);
+        }
+    }
+
+    private void replaceOrRegisterChildren(LinkedNode ancestor){
+        int count = 0;
+        for (LinkedNode child = ancestor.getChild(); child != null; child = child.getBrother()) {
+            if (count == chain.length){
+                chain = Arrays.copyOf(chain, count * 2);
+            }
+            chain[count++] = child;
+        }
+
+        LinkedNode canonical = null;
+        for (int i = count - 1; i >= 0; i--) {
+            LinkedNode node = chain[i];
+            chain[i] = null;
+            node.setBrother(canonical);
+            LinkedNode existing = register.putIfAbsent(node, node);
+            canonical = existing == null ? node : existing;
+        }
+        ancestor.setChild(canonical);
+    }
+
+    private void appendSuffix(CharSequence word, int commonPrefix){
+        LinkedNode current = new LinkedNode(word.charAt(commonPrefix), commonPrefix == word.length() - 1);
+        if (commonPrefix < previousLength){
+            path[commonPrefix + 1].setBrother(current);
+        } else {
+            path[commonPrefix].setChild(current);
+        }
+        path[commonPrefix + 1] = current;
+        previous[commonPrefix] = current.getLetter();
+
+        for (int i = commonPrefix + 1, dest = word.length() - 1; i <= dest; i++) {
+            LinkedNode next = new LinkedNode(word.charAt(i), i == dest);
+            current.setChild(next);
+            current = next;
+            path[i + 1] = current;
+            previous[i] = current.getLetter();
+        }
+        previousLength = word.length();
+    }
+
+    private void ensureCapacity(int capacity){
+        if (path.length < capacity){
+            int newCapacity = Math.max(capacity, path.length * 2);
+            path = Arrays.copyOf(path, newCapacity);
+            previous = Arrays.copyOf(previous, newCapacity);
+        }
+    }
+}
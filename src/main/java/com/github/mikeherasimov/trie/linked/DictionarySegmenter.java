@@ -0,0 +1,304 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * DictionarySegmenter splits text into words of LinkedTrie (or LinkedDAWG) and unknown characters,
+ * which aren't covered by words. Text is read from <code>Reader</code> into buffer of bounded size,
+ * so text of any length can be segmented. Words, which are longer than <code>maxWordLength</code>, aren't found.
+ * <p>
+ * Trie is walked once from each position of text, until text leaves prefixes of trie,
+ * and each walk finds all words, which start at that position (it is the same walk, that is done by
+ * <code>LinkedTrie.longestPrefixMatch()</code>). Segmentation depends on mode:
+ * <ul>
+ * <li><code>MAXIMAL_MATCH</code> takes the longest word from the current position and continues after it;</li>
+ * <li><code>SHORTEST_PATH</code> takes such sequence of words and unknown characters, which consists of
+ * the fewest tokens. Tokens of each stretch of text, which isn't crossed by any word, are chosen at once,
+ * so only such stretch has to be kept in buffer. If stretch becomes longer than <code>maxWordLength</code>,
+ * it is cut, and its tokens are chosen as the best path to the cut.</li>
+ * </ul>
+ * Unknown character is supplementary code point (surrogate pair) or single <code>char</code>.
+ * Segmenter reads nodes of trie during segmentation, so trie must not be changed meanwhile.
+ */
+public final class DictionarySegmenter {
+    public static final int DEFAULT_MAX_WORD_LENGTH = 64;
+    private static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final LinkedNode root;
+    private final Mode mode;
+    private final int maxWordLength;
+
+    /**
+     * Returns segmenter by words of supplied LinkedTrie with default maximal length of word.
+     *
+     * @param trie  supplied <code>LinkedTrie</code> object
+     * @param mode  mode of segmentation
+     */
+    public DictionarySegmenter(LinkedTrie trie, Mode mode){
+        this(trie, mode, DEFAULT_MAX_WORD_LENGTH);
+    }
+
+    /**
+     * Returns segmenter by words of supplied LinkedTrie.
+     *
+     * @param trie                        supplied <code>LinkedTrie</code> object
+     * @param mode                        mode of segmentation
+     * @param maxWordLength               maximal length of word, that can be found
+     * @throws IllegalArgumentException   if <code>maxWordLength</code> isn't positive
+     */
+    public DictionarySegmenter(LinkedTrie trie, Mode mode, int maxWordLength){
+        if (maxWordLength < 1){
+            throw new IllegalArgumentException("Maximal length of word must be positive: " + maxWordLength);
+        }
+        root = trie.getRoot();
+        this.mode = mode;
+        this.maxWordLength = maxWordLength;
+    }
+
+    /**
+     * Returns segmenter by words of supplied LinkedDAWG with default maximal length of word.
+     *
+     * @param dawg  supplied <code>LinkedDAWG</code> object
+     * @param mode  mode of segmentation
+     */
+    public DictionarySegmenter(LinkedDAWG dawg, Mode mode){
+        this(dawg.getTrie(), mode);
+    }
+
+    /**
+     * Returns segmenter by words of supplied LinkedDAWG.
+     *
+     * @param dawg                        supplied <code>LinkedDAWG</code> object
+     * @param mode                        mode of segmentation
+     * @param maxWordLength               maximal length of word, that can be found
+     * @throws IllegalArgumentException   if <code>maxWordLength</code> isn't positive
+     */
+    public DictionarySegmenter(LinkedDAWG dawg, Mode mode, int maxWordLength){
+        this(dawg.getTrie(), mode, maxWordLength);
+    }
+
+    /**
+     * Splits text, supplied by reader, into tokens and passes them to listener in order of text.
+     * Tokens cover text without gaps. Positions of tokens are counted from the first character,
+     * read by this invocation. Reader isn't closed.
+     *
+     * @param reader        reader of text to be segmented
+     * @param listener      listener of tokens
+     * @return              number of tokens
+     * @throws IOException  if an I/O error occurs
+     */
+    public long segment(Reader reader, TokenListener listener) throws IOException {
+        Segmentation segmentation = new Segmentation(reader, listener);
+        if (mode == Mode.MAXIMAL_MATCH){
+            segmentation.maximalMatch();
+        } else {
+            segmentation.shortestPath();
+        }
+        return segmentation.tokens;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public int getMaxWordLength() {
+        return maxWordLength;
+    }
+
+    private static LinkedNode findChild(LinkedNode ancestor, char letter){
+        LinkedNode current = ancestor.getChild();
+        while (current != null && current.getLetter() != letter) {
+            current = current.getBrother();
+        }
+        return current;
+    }
+
+    /**
+     * State of one segmentation. Buffer keeps not segmented text and at least <code>maxWordLength</code>
+     * characters after the current position (unless reader is exhausted).
+     */
+    private final class Segmentation {
+        private final Reader reader;
+        private final TokenListener listener;
+        private final char[] buffer = new char[maxWordLength * 2 + 2];
+        private final int[] ends = new int[maxWordLength];
+        private long offset;
+        private int start;
+        private int limit;
+        private boolean exhausted;
+        private long tokens;
+
+        private int[] costs;
+        private int[] previous;
+        private boolean[] known;
+        private int[] path;
+        private int reach;
+
+        Segmentation(Reader reader, TokenListener listener){
+            this.reader = reader;
+            this.listener = listener;
+        }
+
+        void maximalMatch() throws IOException {
+            while (true) {
+                if (limit - start < maxWordLength){
+                    fill();
+                }
+                if (start == limit){
+                    return;
+                }
+                int count = walk(start);
+                int length = count > 0 ? ends[count - 1] : unknownLength(start);
+                emit(start, start + length, count > 0);
+                start += length;
+            }
+        }
+
+        /**
+         * Finds path with the fewest tokens through positions of current stretch, which are counted from
+         * <code>start</code>: <code>costs[position]</code> is the fewest number of tokens from <code>start</code> to
+         * <code>position</code>, and <code>reach</code> is the farthest position, where token can end.
+         * Position, which isn't crossed by any token, ends stretch. On equal costs tokens, that start earlier
+         * (so the last token is longer), are preferred.
+         */
+        void shortestPath() throws IOException {
+            costs = new int[buffer.length + 1];
+            previous = new int[buffer.length + 1];
+            known = new boolean[buffer.length + 1];
+            path = new int[buffer.length];
+            int position = 0;
+            while (true) {
+                if (limit - (start + position) < maxWordLength){
+                    fill();
+                }
+                if (position > 0 && (reach <= position ||
+                        position >= maxWordLength && costs[position] != UNREACHABLE)){
+                    emitPath(position);
+                    start += position;
+                    position = 0;
+                    reach = 0;
+                    continue;
+                }
+                if (start == limit){
+                    return;
+                }
+                if (costs[position] != UNREACHABLE){
+                    int count = walk(start + position);
+                    for (int i = 0; i < count; i++) {
+                        relax(position, position + ends[i], true);
+                    }
+                    relax(position, position + unknownLength(start + position), false);
+                }
+                position++;
+            }
+        }
+
+        private void relax(int from, int to, boolean inDictionary){
+            if (to > reach){
+                Arrays.fill(costs, reach + 1, to + 1, UNREACHABLE);
+                reach = to;
+            }
+            if (costs[from] + 1 < costs[to]){
+                costs[to] = costs[from] + 1;
+                previous[to] = from;
+                known[to] = inDictionary;
+            }
+        }
+
+        private void emitPath(int end){
+            int count = 0;
+            for (int position = end; position > 0; position = previous[position]) {
+                path[count++] = position;
+            }
+            for (int i = count - 1; i >= 0; i--) {
+                int to = path[i];
+                emit(start + previous[to], start + to, known[to]);
+            }
+        }
+
+        /**
+         * Writes lengths of all words, which start at supplied index of buffer, to <code>ends</code> in ascending order.
+         *
+         * @return  number of words
+         */
+        private int walk(int from){
+            int count = 0;
+            LinkedNode current = root;
+            for (int i = from, end = Math.min(limit, from + maxWordLength); i < end; i++) {
+                current = findChild(current, buffer[i]);
+                if (current == null){
+                    break;
+                }
+                if (current.getEOW()){
+                    ends[count++] = i + 1 - from;
+                }
+            }
+            return count;
+        }
+
+        private int unknownLength(int index){
+            return Character.isHighSurrogate(buffer[index]) && index + 1 < limit &&
+                    Character.isLowSurrogate(buffer[index + 1]) ? 2 : 1;
+        }
+
+        private void emit(int from, int to, boolean inDictionary){
+            listener.token(offset + from, offset + to, inDictionary);
+            tokens++;
+        }
+
+        /**
+         * Moves not segmented text to the beginning of buffer and reads text until buffer is full.
+         */
+        private void fill() throws IOException {
+            if (exhausted){
+                return;
+            }
+            if (start > 0){
+                System.arraycopy(buffer, start, buffer, 0, limit - start);
+                limit -= start;
+                offset += start;
+                start = 0;
+            }
+            while (limit < buffer.length) {
+                int read = reader.read(buffer, limit, buffer.length - limit);
+                if (read == -1){
+                    exhausted = true;
+                    return;
+                }
+                limit += read;
+            }
+        }
+    }
+
+    /**
+     * Mode of segmentation.
+     */
+    public enum Mode {
+        /**
+         * The longest word from each position.
+         */
+        MAXIMAL_MATCH,
+        /**
+         * The fewest tokens.
+         */
+        SHORTEST_PATH
+    }
+
+    /**
+     * TokenListener receives tokens, produced by segmenter.
+     */
+    public interface TokenListener {
+
+        /**
+         * Receives the next token.
+         *
+         * @param start         position of the first character of token in text
+         * @param end           position after the last character of token in text
+         * @param inDictionary  <code>true</code> if token is word of dictionary, <code>false</code> if it is unknown character
+         */
+        void token(long start, long end, boolean inDictionary);
+
+    }
+}
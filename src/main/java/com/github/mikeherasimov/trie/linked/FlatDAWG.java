@@ -0,0 +1,229 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.Arrays;
+
+/**
+ * FlatDAWG is immutable LinkedDAWG, which nodes are stored in primitive arrays instead of <code>LinkedNode</code> objects.
+ * Letter and EOW flag of node are packed to one <code>int</code>, references to child and brother
+ * are replaced by their indexes, where 0 means absence of reference (root can't be child or brother of any node).
+ * <p>
+ * Each node is annotated with number of words, which end at it, its descendants and its brothers (with their
+ * descendants). So words have dense indexes, which are their positions in preorder of DAWG
+ * (lexicographic order, if words were added in lexicographic order), and both <code>indexOf</code>
+ * and <code>wordAt</code> take time proportional to length of word (and number of skipped brothers).
+ * <p>
+ * FlatDAWG uses the same serialized form as LinkedDAWG, so each of them can read what another one wrote.
+ * Numbers of words aren't serialized, they are recalculated after reading.
+ */
+public final class FlatDAWG extends PackedDAWG implements Externalizable {
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private int size;
+    private int[] nodes;
+    private int[] childIndexes;
+    private int[] brotherIndexes;
+    private int[] counts;
+
+    /**
+     * Returns FlatDAWG, that contains the same words as supplied LinkedDAWG.
+     *
+     * @param dawg  supplied <code>LinkedDAWG</code> object
+     */
+    public FlatDAWG(LinkedDAWG dawg){
+        LinkedDAWGSerializationHelper helper = dawg.getTrie().getDAWGSerializationHelper();
+        helper.calculateValues();
+        init(dawg.size(), helper.getLetters(), helper.getEOWs(), helper.getChildIndexes(), helper.getBrotherIndexes());
+    }
+
+    public FlatDAWG(){
+        this(new LinkedDAWG());
+    }
+
+    private void init(int size, char[] letters, boolean[] eows, int[] childIndexes, int[] brotherIndexes){
+        this.size = size;
+        this.childIndexes = childIndexes;
+        this.brotherIndexes = brotherIndexes;
+        nodes = new int[letters.length];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = pack(letters[i], eows[i]);
+        }
+        counts = countWords();
+    }
+
+    /**
+     * Calculates number of words below each node in postorder, using explicit stack,
+     * because shared nodes don't allow to rely on order of indexes.
+     */
+    private int[] countWords(){
+        int[] counts = new int[nodes.length];
+        boolean[] counted = new boolean[nodes.length];
+        int[] stack = new int[INITIAL_CAPACITY];
+        int top = 0;
+        stack[top++] = 0;
+        while (top > 0) {
+            int current = stack[top - 1];
+            int child = childIndexes[current];
+            int brother = brotherIndexes[current];
+            if (top + 1 >= stack.length){
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (child != 0 && !counted[child]){
+                stack[top++] = child;
+            } else if (brother != 0 && !counted[brother]){
+                stack[top++] = brother;
+            } else {
+                top--;
+                counts[current] = ((nodes[current] & EOW_FLAG) != 0 ? 1 : 0) +
+                        (child != 0 ? counts[child] : 0) + (brother != 0 ? counts[brother] : 0);
+                counted[current] = true;
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Returns index of word, that is number of words, which go before it in preorder of this FlatDAWG.
+     * Indexes of words are in range from 0 to <code>size() - 1</code>.
+     *
+     * @param word  word, which index is requested
+     * @return      index of word or <code>-1</code> if this FlatDAWG doesn't contain word
+     */
+    public int indexOf(CharSequence word) {
+        if (word.length() == 0){
+            return -1;
+        }
+        int index = 0;
+        int current = 0;
+        for (int i = 0; i < word.length(); i++) {
+            char letter = word.charAt(i);
+            if (current != 0 && (nodes[current] & EOW_FLAG) != 0){
+                index++;
+            }
+            current = childIndexes[current];
+            while (current != 0 && (nodes[current] & LETTER_MASK) != letter) {
+                index += ownCount(current);
+                current = brotherIndexes[current];
+            }
+            if (current == 0){
+                return -1;
+            }
+        }
+        return (nodes[current] & EOW_FLAG) != 0 ? index : -1;
+    }
+
+    /**
+     * Returns word, which has specified index.
+     *
+     * @param index                       index of word
+     * @return                            word, for which <code>indexOf</code> returns index
+     * @throws IndexOutOfBoundsException  if index is negative or not less than <code>size()</code>
+     */
+    public String wordAt(int index) {
+        if (index < 0 || index >= size){
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        StringBuilder word = new StringBuilder();
+        int current = childIndexes[0];
+        while (true) {
+            int ownCount = ownCount(current);
+            if (index >= ownCount){
+                index -= ownCount;
+                current = brotherIndexes[current];
+                continue;
+            }
+            word.append((char) (nodes[current] & LETTER_MASK));
+            if ((nodes[current] & EOW_FLAG) != 0){
+                if (index == 0){
+                    return word.toString();
+                }
+                index--;
+            }
+            current = childIndexes[current];
+        }
+    }
+
+    /**
+     * Returns number of words, which start with supplied prefix (including prefix itself).
+     *
+     * @param prefix  prefix of words
+     * @return        number of words with prefix
+     */
+    public int countWithPrefix(CharSequence prefix) {
+        int current = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            char letter = prefix.charAt(i);
+            current = childIndexes[current];
+            while (current != 0 && (nodes[current] & LETTER_MASK) != letter) {
+                current = brotherIndexes[current];
+            }
+            if (current == 0){
+                return 0;
+            }
+        }
+        int child = childIndexes[current];
+        return ((nodes[current] & EOW_FLAG) != 0 ? 1 : 0) + (child != 0 ? counts[child] : 0);
+    }
+
+    /**
+     * Returns number of words, which end at node or its descendants, without words of its brothers.
+     */
+    private int ownCount(int index){
+        int brother = brotherIndexes[index];
+        return counts[index] - (brother != 0 ? counts[brother] : 0);
+    }
+
+    @Override
+    int getNode(int index) {
+        return nodes[index];
+    }
+
+    @Override
+    int getChildIndex(int index) {
+        return childIndexes[index];
+    }
+
+    @Override
+    int getBrotherIndex(int index) {
+        return brotherIndexes[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int numberOfNodes() {
+        return nodes.length;
+    }
+
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        char[] letters = new char[nodes.length];
+        boolean[] eows = new boolean[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            letters[i] = (char) (nodes[i] & LETTER_MASK);
+            eows[i] = (nodes[i] & EOW_FLAG) != 0;
+        }
+        out.writeInt(size);
+        out.writeObject(letters);
+        out.writeObject(eows);
+        out.writeObject(childIndexes);
+        out.writeObject(brotherIndexes);
+    }
+
+    @Override
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int size = in.readInt();
+        char[] letters = (char[]) in.readObject();
+        boolean[] eows = (boolean[]) in.readObject();
+        int[] childIndexes = (int[]) in.readObject();
+        int[] brotherIndexes = (int[]) in.readObject();
+        init(size, letters, eows, childIndexes, brotherIndexes);
+    }
+}
@@ -0,0 +1,86 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.WordGraph;
+
+/**
+ * IntValueDAWG is immutable map from words to <code>int</code> values, created by <code>IntValueTrie.freeze()</code>.
+ * Words are stored in minimal FlatDAWG, so shared suffixes are stored once regardless of their values.
+ * Values are stored in array, which is indexed by index of word in DAWG (see <code>FlatDAWG.indexOf</code>),
+ * so lookup of value takes time proportional to length of word.
+ */
+public final class IntValueDAWG implements WordGraph {
+    private final FlatDAWG dawg;
+    private final int[] values;
+    private final int noEntryValue;
+
+    IntValueDAWG(FlatDAWG dawg, int[] values, int noEntryValue){
+        this.dawg = dawg;
+        this.values = values;
+        this.noEntryValue = noEntryValue;
+    }
+
+    /**
+     * Returns value, associated with specified word.
+     *
+     * @param word  word, which is key of value
+     * @return      value of word or <code>noEntryValue</code> if this IntValueDAWG doesn't contain word
+     */
+    public int get(CharSequence word) {
+        return getOrDefault(word, noEntryValue);
+    }
+
+    /**
+     * Returns value, associated with specified word, or default value if word is absent.
+     *
+     * @param word          word, which is key of value
+     * @param defaultValue  value, which is returned if word is absent
+     * @return              value of word or <code>defaultValue</code> if this IntValueDAWG doesn't contain word
+     */
+    public int getOrDefault(CharSequence word, int defaultValue) {
+        int index = dawg.indexOf(word);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    public int getNoEntryValue() {
+        return noEntryValue;
+    }
+
+    /**
+     * Returns DAWG, which stores words of this IntValueDAWG.
+     *
+     * @return  <code>FlatDAWG</code> object
+     */
+    public FlatDAWG getDAWG() {
+        return dawg;
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        return dawg.contains(word);
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return dawg.isPrefix(prefix);
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        return dawg.longestPrefixMatch(text, from);
+    }
+
+    @Override
+    public int size() {
+        return dawg.size();
+    }
+}
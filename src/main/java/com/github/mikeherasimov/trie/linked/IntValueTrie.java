@@ -0,0 +1,376 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.WordGraph;
+import com.github.mikeherasimov.trie.WordGraphs;
+
+import java.util.Arrays;
+
+/**
+ * IntValueTrie is map from words to <code>int</code> values, based on structure of LinkedTrie.
+ * Nodes aren't objects: each node is index in parallel primitive arrays of letters, references to
+ * child and brother (where 0 means absence of reference, because root is stored under index 0)
+ * and values, so words and values don't need any boxing.
+ * <p>
+ * Absent values are represented by <code>noEntryValue</code>, which is supplied to constructor.
+ * Compact immutable form, where words are stored in minimal DAWG, is returned by <code>freeze()</code>.
+ */
+public final class IntValueTrie implements WordGraph {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final int ROOT = 0;
+
+    private final int noEntryValue;
+    private int size;
+    private int numberOfNodes;
+
+    private char[] letters;
+    private int[] childIndexes;
+    private int[] brotherIndexes;
+    private int[] values;
+    private boolean[] hasValues;
+
+    /**
+     * Returns new IntValueTrie object, which returns 0 for absent words.
+     */
+    public IntValueTrie(){
+        this(0);
+    }
+
+    /**
+     * Returns new IntValueTrie object.
+     *
+     * @param noEntryValue  value, which is returned for absent words
+     */
+    public IntValueTrie(int noEntryValue){
+        this.noEntryValue = noEntryValue;
+        init();
+    }
+
+    private void init(){
+        size = 0;
+        numberOfNodes = 1;
+        letters = new char[INITIAL_CAPACITY];
+        childIndexes = new int[INITIAL_CAPACITY];
+        brotherIndexes = new int[INITIAL_CAPACITY];
+        values = new int[INITIAL_CAPACITY];
+        hasValues = new boolean[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Returns value, which is returned for absent words
+     *
+     * @return  value of absent words
+     */
+    public int getNoEntryValue() {
+        return noEntryValue;
+    }
+
+    /**
+     * Associates specified value with specified word.
+     *
+     * @param word                       word, which is key of value
+     * @param value                      value to be associated with word
+     * @return                           previous value of word or <code>noEntryValue</code> if word was absent
+     * @throws IllegalArgumentException  if word is empty
+     */
+    public int put(CharSequence word, int value) {
+        int node = createNodesIfNeeds(word);
+        int previous = hasValues[node] ? values[node] : noEntryValue;
+        setValue(node, value);
+        return previous;
+    }
+
+    /**
+     * Returns value, associated with specified word.
+     *
+     * @param word  word, which is key of value
+     * @return      value of word or <code>noEntryValue</code> if this IntValueTrie doesn't contain word
+     */
+    public int get(CharSequence word) {
+        return getOrDefault(word, noEntryValue);
+    }
+
+    /**
+     * Returns value, associated with specified word, or default value if word is absent.
+     *
+     * @param word          word, which is key of value
+     * @param defaultValue  value, which is returned if word is absent
+     * @return              value of word or <code>defaultValue</code> if this IntValueTrie doesn't contain word
+     */
+    public int getOrDefault(CharSequence word, int defaultValue) {
+        int node = searchNodeBySequence(word);
+        return node > ROOT && hasValues[node] ? values[node] : defaultValue;
+    }
+
+    /**
+     * Associates specified value with word if word is absent,
+     * otherwise associates result of merger with word.
+     *
+     * @param word                       word, which is key of value
+     * @param value                      value to be associated with word or to be merged with its current value
+     * @param merger                     function, that merges current value of word with supplied value
+     * @return                           new value of word
+     * @throws IllegalArgumentException  if word is empty
+     */
+    public int merge(CharSequence word, int value, Merger merger) {
+        int node = createNodesIfNeeds(word);
+        int newValue = hasValues[node] ? merger.merge(values[node], value) : value;
+        setValue(node, newValue);
+        return newValue;
+    }
+
+    /**
+     * Passes all words, which start with supplied prefix, together with their values to visitor.
+     * Words are passed in preorder of this IntValueTrie in one reused buffer.
+     *
+     * @param prefix   prefix of words
+     * @param visitor  visitor, which can stop enumeration by returning <code>false</code>
+     * @return         number of visited words
+     */
+    public int forEachWithPrefix(CharSequence prefix, EntryVisitor visitor) {
+        int prefixNode = searchNodeBySequence(prefix);
+        if (prefixNode < 0){
+            return 0;
+        }
+        char[] buffer = new char[Math.max(INITIAL_CAPACITY, prefix.length() * 2)];
+        for (int i = 0; i < prefix.length(); i++) {
+            buffer[i] = prefix.charAt(i);
+        }
+        int visited = 0;
+        if (prefixNode > ROOT && hasValues[prefixNode]){
+            visited++;
+            if (!visitor.visit(buffer, prefix.length(), values[prefixNode])){
+                return visited;
+            }
+        }
+
+        int[] stack = new int[INITIAL_CAPACITY];
+        int[] depths = new int[INITIAL_CAPACITY];
+        int top = 0;
+        if (childIndexes[prefixNode] != 0){
+            stack[top] = childIndexes[prefixNode];
+            depths[top++] = prefix.length();
+        }
+        while (top > 0) {
+            top--;
+            int current = stack[top];
+            int depth = depths[top];
+            if (depth == buffer.length){
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[depth] = letters[current];
+            if (hasValues[current]){
+                visited++;
+                if (!visitor.visit(buffer, depth + 1, values[current])){
+                    return visited;
+                }
+            }
+
+            if (top + 2 > stack.length){
+                stack = Arrays.copyOf(stack, stack.length * 2);
+                depths = Arrays.copyOf(depths, depths.length * 2);
+            }
+            if (brotherIndexes[current] != 0){
+                stack[top] = brotherIndexes[current];
+                depths[top++] = depth;
+            }
+            if (childIndexes[current] != 0){
+                stack[top] = childIndexes[current];
+                depths[top++] = depth + 1;
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Returns immutable copy of this IntValueTrie, where words are stored in minimal DAWG
+     * and values are stored in array, indexed by indexes of words in DAWG.
+     *
+     * @return  <code>IntValueDAWG</code> object
+     */
+    public IntValueDAWG freeze() {
+        final String[] words = new String[size];
+        final int[] wordValues = new int[size];
+        final LinkedTrie trie = new LinkedTrie();
+        forEachWithPrefix("", new EntryVisitor() {
+            private int count;
+
+            @Override
+            public boolean visit(char[] buffer, int length, int value) {
+                words[count] = new String(buffer, 0, length);
+                wordValues[count++] = value;
+                trie.add(words[count - 1]);
+                return true;
+            }
+        });
+
+        FlatDAWG dawg = new FlatDAWG(trie.toDAWG());
+        int[] indexedValues = new int[size];
+        for (int i = 0; i < words.length; i++) {
+            indexedValues[dawg.indexOf(words[i])] = wordValues[i];
+        }
+        return new IntValueDAWG(dawg, indexedValues, noEntryValue);
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        return containsKey(word);
+    }
+
+    /**
+     * Returns true if this IntValueTrie contains value for specified word
+     *
+     * @param word  word whose presence is to be tested
+     * @return      <code>true</code> if this IntValueTrie contains specified word
+     */
+    public boolean containsKey(CharSequence word) {
+        int node = searchNodeBySequence(word);
+        return node > ROOT && hasValues[node];
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return searchNodeBySequence(prefix) >= 0;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        int current = ROOT;
+        for (int i = from; i < text.length(); i++) {
+            current = findChild(current, text.charAt(i));
+            if (current == 0){
+                break;
+            }
+            if (hasValues[current]){
+                longest = i + 1 - from;
+            }
+        }
+        return longest;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        init();
+    }
+
+    private void setValue(int node, int value){
+        if (!hasValues[node]){
+            hasValues[node] = true;
+            size++;
+        }
+        values[node] = value;
+    }
+
+    private int searchNodeBySequence(CharSequence sequence){
+        int current = ROOT;
+        for (int i = 0; i < sequence.length(); i++) {
+            current = findChild(current, sequence.charAt(i));
+            if (current == 0){
+                return -1;
+            }
+        }
+        return current;
+    }
+
+    private int findChild(int node, char letter){
+        int child = childIndexes[node];
+        while (child != 0 && letters[child] != letter) {
+            child = brotherIndexes[child];
+        }
+        return child;
+    }
+
+    private int createNodesIfNeeds(CharSequence word){
+        if (word.length() == 0){
+            throw new IllegalArgumentException("Word can't be empty");
+        }
+        int current = ROOT;
+        for (int i = 0; i < word.length(); i++) {
+            current = createNodeIfNeeds(current, word.charAt(i));
+        }
+        return current;
+    }
+
+    private int createNodeIfNeeds(int ancestor, char letter){
+        int lastChild = 0;
+        for (int child = childIndexes[ancestor]; child != 0; child = brotherIndexes[child]) {
+            if (letters[child] == letter){
+                return child;
+            }
+            lastChild = child;
+        }
+        int newChild = newNode(letter);
+        if (lastChild == 0){
+            childIndexes[ancestor] = newChild;
+        } else {
+            brotherIndexes[lastChild] = newChild;
+        }
+        return newChild;
+    }
+
+    private int newNode(char letter){
+        if (numberOfNodes == letters.length){
+            int capacity = numberOfNodes * 2;
+            letters = Arrays.copyOf(letters, capacity);
+            childIndexes = Arrays.copyOf(childIndexes, capacity);
+            brotherIndexes = Arrays.copyOf(brotherIndexes, capacity);
+            values = Arrays.copyOf(values, capacity);
+            hasValues = Arrays.copyOf(hasValues, capacity);
+        }
+        letters[numberOfNodes] = letter;
+        return numberOfNodes++;
+    }
+
+    /**
+     * Merger combines current value of word with supplied value.
+     */
+    public interface Merger {
+
+        /**
+         * Returns new value of word.
+         *
+         * @param oldValue  current value of word
+         * @param value     supplied value
+         * @return          new value of word
+         */
+        int merge(int oldValue, int value);
+
+    }
+
+    /**
+     * EntryVisitor receives words together with their values.
+     * Word is passed as buffer, which is reused for all words of one enumeration.
+     */
+    public interface EntryVisitor {
+
+        /**
+         * Visits the next word.
+         *
+         * @param buffer  buffer, which first <code>length</code> characters are the word
+         * @param length  length of the word
+         * @param value   value of the word
+         * @return        <code>true</code> if enumeration has to be continued
+         */
+        boolean visit(char[] buffer, int length, int value);
+
+    }
+}
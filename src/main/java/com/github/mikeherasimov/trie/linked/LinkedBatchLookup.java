@@ -0,0 +1,215 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.util.Arrays;
+
+/**
+ * LinkedBatchLookup looks up batch of words in trie at once.
+ * Words are grouped by letters like in three-way radix quicksort: words of group share prefix
+ * and node of that prefix, group is partitioned by the next letter of pivot word into words with
+ * lesser, equal and greater letters, and only the group of equal letters descends to the child of node.
+ * So child of node is searched once for all words of group, and each prefix, shared by words of batch,
+ * is traversed only once. Words, which end at node, are treated as if their next letter is less than
+ * any letter. Words aren't compared with each other, so grouping doesn't read their common prefixes again,
+ * as comparison sort would do.
+ * <p>
+ * Small groups aren't partitioned anymore: their words continue descent in lanes, which are moved
+ * by one node per round, so reads of nodes of different words don't wait for each other.
+ * Groups, which have to be processed, are kept in explicit stack of primitive arrays.
+ */
+final class LinkedBatchLookup {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int END_OF_WORD = -1;
+    private static final int SMALL_GROUP = 8;
+
+    private final CharSequence[] words;
+    private final boolean[] out;
+    private final boolean prefixes;
+    private final int[] order;
+
+    private int[] froms = new int[INITIAL_CAPACITY];
+    private int[] tos = new int[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private LinkedNode[] nodes = new LinkedNode[INITIAL_CAPACITY];
+    private int top;
+
+    private final int[] laneIndexes;
+    private final int[] laneDepths;
+    private final LinkedNode[] laneNodes;
+    private int numberOfLanes;
+
+    private LinkedBatchLookup(CharSequence[] words, boolean[] out, boolean prefixes){
+        this.words = words;
+        this.out = out;
+        this.prefixes = prefixes;
+        order = new int[words.length];
+        laneIndexes = new int[words.length];
+        laneDepths = new int[words.length];
+        laneNodes = new LinkedNode[words.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+    }
+
+    /**
+     * Writes result of lookup of each word to the same position of <code>out</code> array.
+     *
+     * @param root                       root node of trie
+     * @param words                      words to be looked up
+     * @param out                        array of results
+     * @param prefixes                   <code>true</code> if words are tested as prefixes, otherwise as words
+     * @throws IllegalArgumentException  if <code>out</code> is shorter than <code>words</code>
+     */
+    public static void lookup(LinkedNode root, CharSequence[] words, boolean[] out, boolean prefixes){
+        checkLength(words, out);
+        new LinkedBatchLookup(words, out, prefixes).lookup(root);
+    }
+
+    static void checkLength(CharSequence[] words, boolean[] out){
+        if (out.length < words.length){
+            throw new IllegalArgumentException("Array of results is shorter than array of words: " +
+                    out.length + " < " + words.length);
+        }
+    }
+
+    private void lookup(LinkedNode root){
+        if (order.length > 0){
+            push(0, order.length, 0, root);
+        }
+        while (top > 0) {
+            top--;
+            int from = froms[top];
+            int to = tos[top];
+            int depth = depths[top];
+            LinkedNode node = nodes[top];
+            nodes[top] = null;
+
+            if (to - from <= SMALL_GROUP){
+                for (int i = from; i < to; i++) {
+                    addLane(order[i], depth, node);
+                }
+                continue;
+            }
+            int pivot = letterAt(order[(from + to) >>> 1], depth);
+            int lesser = from;
+            int greater = to;
+            for (int i = from; i < greater; ) {
+                int letter = letterAt(order[i], depth);
+                if (letter < pivot){
+                    swap(lesser++, i++);
+                } else if (letter > pivot){
+                    swap(i, --greater);
+                } else {
+                    i++;
+                }
+            }
+
+            if (from < lesser){
+                push(from, lesser, depth, node);
+            }
+            if (greater < to){
+                push(greater, to, depth, node);
+            }
+            if (pivot == END_OF_WORD){
+                for (int i = lesser; i < greater; i++) {
+                    out[order[i]] = prefixes || node.getEOW();
+                }
+                continue;
+            }
+            LinkedNode child = findChild(node, (char) pivot);
+            if (child != null){
+                push(lesser, greater, depth + 1, child);
+            } else {
+                for (int i = lesser; i < greater; i++) {
+                    out[order[i]] = false;
+                }
+            }
+        }
+        walkLanes();
+    }
+
+    private void addLane(int index, int depth, LinkedNode node){
+        int lane = numberOfLanes++;
+        laneIndexes[lane] = index;
+        laneDepths[lane] = depth;
+        laneNodes[lane] = node;
+    }
+
+    /**
+     * Continues descent of all remaining words together, moving each of them by one node per round,
+     * so that independent memory accesses of different words overlap.
+     */
+    private void walkLanes(){
+        int active = 0;
+        for (int lane = 0; lane < numberOfLanes; lane++) {
+            int index = laneIndexes[lane];
+            LinkedNode node = laneNodes[lane];
+            if (laneDepths[lane] == words[index].length()){
+                out[index] = prefixes || node.getEOW();
+                continue;
+            }
+            laneIndexes[active] = index;
+            laneDepths[active] = laneDepths[lane];
+            laneNodes[active++] = node.getChild();
+        }
+        while (active > 0) {
+            int next = 0;
+            for (int lane = 0; lane < active; lane++) {
+                LinkedNode current = laneNodes[lane];
+                int index = laneIndexes[lane];
+                if (current == null){
+                    out[index] = false;
+                    continue;
+                }
+                CharSequence word = words[index];
+                int depth = laneDepths[lane];
+                if (current.getLetter() != word.charAt(depth)){
+                    current = current.getBrother();
+                } else if (++depth == word.length()){
+                    out[index] = prefixes || current.getEOW();
+                    continue;
+                } else {
+                    current = current.getChild();
+                }
+                laneIndexes[next] = index;
+                laneDepths[next] = depth;
+                laneNodes[next++] = current;
+            }
+            active = next;
+        }
+        Arrays.fill(laneNodes, 0, numberOfLanes, null);
+        numberOfLanes = 0;
+    }
+
+    private int letterAt(int index, int depth){
+        CharSequence word = words[index];
+        return depth < word.length() ? word.charAt(depth) : END_OF_WORD;
+    }
+
+    private void swap(int i, int j){
+        int index = order[i];
+        order[i] = order[j];
+        order[j] = index;
+    }
+
+    private void push(int from, int to, int depth, LinkedNode node){
+        if (top == froms.length){
+            int capacity = top * 2;
+            froms = Arrays.copyOf(froms, capacity);
+            tos = Arrays.copyOf(tos, capacity);
+            depths = Arrays.copyOf(depths, capacity);
+            nodes = Arrays.copyOf(nodes, capacity);
+        }
+        froms[top] = from;
+        tos[top] = to;
+        depths[top] = depth;
+        nodes[top++] = node;
+    }
+
+    private static LinkedNode findChild(LinkedNode ancestor, char letter){
+        LinkedNode current = ancestor.getChild();
+        while (current != null && current.getLetter() != letter) {
+            current = current.getBrother();
+        }
+        return current;
+    }
+}
@@ -1,11 +1,16 @@
 package com.github.mikeherasimov.trie.linked;
 
 import com.github.mikeherasimov.trie.DAWG;
+import com.github.mikeherasimov.trie.WordPattern;
+import com.github.mikeherasimov.trie.WordVisitor;
 
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * LinkedDAWG represents optimized LinkedTrie data-structure.
@@ -23,19 +28,239 @@ public final class LinkedDAWG implements DAWG, Externalizable {
 
     @Override
     public boolean contains(String word) {
-        return trie.contains(word);
+        return contains((CharSequence) word);
     }
 
     @Override
     public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        return trie.contains(word);
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
         return trie.isPrefix(prefix);
     }
 
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        return trie.longestPrefixMatch(text, from);
+    }
+
+    /**
+     * Returns statistics of structure of this LinkedDAWG.
+     * Number of distinct nodes and number of nodes of represented trie show compression of this DAWG.
+     *
+     * @return  <code>TrieStats</code> object
+     * @see     LinkedTrie#stats()
+     */
+    public TrieStats stats() {
+        return trie.stats();
+    }
+
+    /**
+     * Enables counting of lookups.
+     *
+     * @return  counters of this LinkedDAWG
+     * @see     LinkedTrie#enableQueryCounters()
+     */
+    public QueryCounters enableQueryCounters() {
+        return trie.enableQueryCounters();
+    }
+
+    public void disableQueryCounters() {
+        trie.disableQueryCounters();
+    }
+
+    public QueryCounters getQueryCounters() {
+        return trie.getQueryCounters();
+    }
+
+    /**
+     * Tests presence of each word of batch in this LinkedDAWG.
+     *
+     * @param words  words whose presence is to be tested
+     * @param out    array, where <code>out[i]</code> is set to result for <code>words[i]</code>
+     * @see          LinkedTrie#containsAll(CharSequence[], boolean[])
+     */
+    public void containsAll(CharSequence[] words, boolean[] out) {
+        trie.containsAll(words, out);
+    }
+
+    /**
+     * Tests presence of each prefix of batch in this LinkedDAWG.
+     *
+     * @param prefixes  prefixes whose presence is to be tested
+     * @param out       array, where <code>out[i]</code> is set to result for <code>prefixes[i]</code>
+     * @see             LinkedTrie#isPrefixAll(CharSequence[], boolean[])
+     */
+    public void isPrefixAll(CharSequence[] prefixes, boolean[] out) {
+        trie.isPrefixAll(prefixes, out);
+    }
+
+    /**
+     * Returns true if this LinkedDAWG contains word, which consists of specified characters of array.
+     *
+     * @param chars   array of characters
+     * @param offset  index of the first character of word
+     * @param length  length of word
+     * @return        <code>true</code> if this LinkedDAWG contains specified word
+     * @see           LinkedTrie#contains(char[], int, int)
+     */
+    public boolean contains(char[] chars, int offset, int length) {
+        return trie.contains(chars, offset, length);
+    }
+
+    /**
+     * Returns true if this LinkedDAWG contains prefix, which consists of specified characters of array.
+     *
+     * @param chars   array of characters
+     * @param offset  index of the first character of prefix
+     * @param length  length of prefix
+     * @return        <code>true</code> if this LinkedDAWG contains specified prefix
+     * @see           LinkedTrie#isPrefix(char[], int, int)
+     */
+    public boolean isPrefix(char[] chars, int offset, int length) {
+        return trie.isPrefix(chars, offset, length);
+    }
+
+    /**
+     * Returns true if this LinkedDAWG contains word, which is encoded in UTF-8 by specified bytes of array.
+     *
+     * @param bytes   array of UTF-8 bytes
+     * @param offset  index of the first byte of word
+     * @param length  number of bytes of word
+     * @return        <code>true</code> if this LinkedDAWG contains specified word
+     * @see           LinkedTrie#contains(byte[], int, int)
+     */
+    public boolean contains(byte[] bytes, int offset, int length) {
+        return trie.contains(bytes, offset, length);
+    }
+
+    /**
+     * Returns true if this LinkedDAWG contains prefix, which is encoded in UTF-8 by specified bytes of array.
+     *
+     * @param bytes   array of UTF-8 bytes
+     * @param offset  index of the first byte of prefix
+     * @param length  number of bytes of prefix
+     * @return        <code>true</code> if this LinkedDAWG contains specified prefix
+     * @see           LinkedTrie#isPrefix(byte[], int, int)
+     */
+    public boolean isPrefix(byte[] bytes, int offset, int length) {
+        return trie.isPrefix(bytes, offset, length);
+    }
+
+    /**
+     * Returns true if this LinkedDAWG contains word, which is encoded in UTF-8 by bytes of buffer
+     * in specified absolute range.
+     *
+     * @param buffer  buffer of UTF-8 bytes
+     * @param offset  absolute index of the first byte of word
+     * @param length  number of bytes of word
+     * @return        <code>true</code> if this LinkedDAWG contains specified word
+     * @see           LinkedTrie#contains(ByteBuffer, int, int)
+     */
+    public boolean contains(ByteBuffer buffer, int offset, int length) {
+        return trie.contains(buffer, offset, length);
+    }
+
+    /**
+     * Returns true if this LinkedDAWG contains prefix, which is encoded in UTF-8 by bytes of buffer
+     * in specified absolute range.
+     *
+     * @param buffer  buffer of UTF-8 bytes
+     * @param offset  absolute index of the first byte of prefix
+     * @param length  number of bytes of prefix
+     * @return        <code>true</code> if this LinkedDAWG contains specified prefix
+     * @see           LinkedTrie#isPrefix(ByteBuffer, int, int)
+     */
+    public boolean isPrefix(ByteBuffer buffer, int offset, int length) {
+        return trie.isPrefix(buffer, offset, length);
+    }
+
     @Override
     public int size() {
         return trie.size();
     }
 
+    /**
+     * Returns iterator over all words of this LinkedDAWG, which start with supplied prefix.
+     *
+     * @param prefix  prefix of words
+     * @return        iterator over words
+     * @see           LinkedTrie#wordsWithPrefix(CharSequence, int)
+     */
+    public Iterator<String> wordsWithPrefix(CharSequence prefix) {
+        return trie.wordsWithPrefix(prefix);
+    }
+
+    /**
+     * Returns iterator over first <code>limit</code> words of this LinkedDAWG, which start with supplied prefix.
+     *
+     * @param prefix  prefix of words
+     * @param limit   maximal number of words
+     * @return        iterator over words
+     * @see           LinkedTrie#wordsWithPrefix(CharSequence, int)
+     */
+    public Iterator<String> wordsWithPrefix(CharSequence prefix, int limit) {
+        return trie.wordsWithPrefix(prefix, limit);
+    }
+
+    /**
+     * Passes first <code>limit</code> words of this LinkedDAWG, which start with supplied prefix, to visitor.
+     *
+     * @param prefix   prefix of words
+     * @param limit    maximal number of words
+     * @param visitor  visitor, which can stop enumeration by returning <code>false</code>
+     * @return         number of visited words
+     * @see            LinkedTrie#forEachWithPrefix(CharSequence, int, WordVisitor)
+     */
+    public int forEachWithPrefix(CharSequence prefix, int limit, WordVisitor visitor) {
+        return trie.forEachWithPrefix(prefix, limit, visitor);
+    }
+
+    /**
+     * Returns all words of this LinkedDAWG within <code>maxEdits</code> Levenshtein distance from query.
+     *
+     * @param query     query word
+     * @param maxEdits  maximal Levenshtein distance
+     * @return          list of words
+     * @see             LinkedTrie#fuzzyMatches(CharSequence, int)
+     */
+    public List<String> fuzzyMatches(CharSequence query, int maxEdits) {
+        return trie.fuzzyMatches(query, maxEdits);
+    }
+
+    /**
+     * Returns all words of this LinkedDAWG, which match supplied pattern.
+     *
+     * @param pattern  pattern in syntax of <code>WordPattern</code>
+     * @return         list of words
+     * @see            LinkedTrie#wordsMatching(WordPattern)
+     */
+    public List<String> wordsMatching(String pattern) {
+        return trie.wordsMatching(pattern);
+    }
+
+    /**
+     * Returns all words of this LinkedDAWG, which match supplied pattern.
+     *
+     * @param pattern  compiled pattern
+     * @return         list of words
+     * @see            LinkedTrie#wordsMatching(WordPattern)
+     */
+    public List<String> wordsMatching(WordPattern pattern) {
+        return trie.wordsMatching(pattern);
+    }
+
+    LinkedTrie getTrie() {
+        return trie;
+    }
+
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
         LinkedDAWGSerializationHelper helper = trie.getDAWGSerializationHelper();
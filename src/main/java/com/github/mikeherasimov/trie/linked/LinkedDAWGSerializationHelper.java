@@ -6,10 +6,9 @@ import gnu.trove.strategy.IdentityHashingStrategy;
 import java.util.Arrays;
 
 class LinkedDAWGSerializationHelper {
-    private static int recursiveCallsCount = -1;
+    private static final int INITIAL_CAPACITY = 64;
 
     private final LinkedNode root;
-    private final int numberOfNodes;
     private int nuberOfDistinctNodes;
     private char[] letters;
     private boolean[] eows;
@@ -18,55 +17,67 @@ class LinkedDAWGSerializationHelper {
 
     public LinkedDAWGSerializationHelper(LinkedNode root) {
         this.root = root;
-        this.numberOfNodes = root.numberOfNodesInSubtrie();
-        letters = new char[numberOfNodes];
-        eows = new boolean[numberOfNodes];
-        childIndexes = new int[numberOfNodes];
-        brotherIndexes = new int[numberOfNodes];
     }
 
     public void calculateValues(){
         TObjectIntCustomHashMap<LinkedNode> identityMap =
-                new TObjectIntCustomHashMap<>(IdentityHashingStrategy.INSTANCE, numberOfNodes);
-        calculateValues(identityMap, root);
+                new TObjectIntCustomHashMap<>(IdentityHashingStrategy.INSTANCE);
+        LinkedNode[] distinctNodes = collectDistinctNodes(identityMap);
         nuberOfDistinctNodes = identityMap.size();
-        recursiveCallsCount = -1;
-    }
 
-    private int calculateValues(TObjectIntCustomHashMap<LinkedNode> identityMap, LinkedNode current){
-        if (identityMap.contains(current)){
-            return identityMap.get(current);
-        }
-        int numberOfCurrentCall = ++recursiveCallsCount;
-        identityMap.put(current, numberOfCurrentCall);
-        collectNode(current, numberOfCurrentCall);
-        if (current.getChild() != null){
-            childIndexes[numberOfCurrentCall] = calculateValues(identityMap, current.getChild());
+        letters = new char[nuberOfDistinctNodes];
+        eows = new boolean[nuberOfDistinctNodes];
+        childIndexes = new int[nuberOfDistinctNodes];
+        brotherIndexes = new int[nuberOfDistinctNodes];
+        for (int i = 0; i < nuberOfDistinctNodes; i++) {
+            LinkedNode node = distinctNodes[i];
+            letters[i] = node.getLetter();
+            eows[i] = node.getEOW();
+            if (node.getChild() != null){
+                childIndexes[i] = identityMap.get(node.getChild());
+            }
+            if (node.getBrother() != null){
+                brotherIndexes[i] = identityMap.get(node.getBrother());
+            }
         }
-        if (current.getBrother() != null){
-            brotherIndexes[numberOfCurrentCall] = calculateValues(identityMap, current.getBrother());
+    }
+
+    private LinkedNode[] collectDistinctNodes(TObjectIntCustomHashMap<LinkedNode> identityMap){
+        LinkedNode[] distinctNodes = new LinkedNode[INITIAL_CAPACITY];
+        LinkedNodeWalker walker = new LinkedNodeWalker(root);
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            if (identityMap.containsKey(current)){
+                walker.skipSubtrie();
+                continue;
+            }
+            int index = identityMap.size();
+            if (index == distinctNodes.length){
+                distinctNodes = Arrays.copyOf(distinctNodes, index * 2);
+            }
+            distinctNodes[index] = current;
+            identityMap.put(current, index);
         }
-        return numberOfCurrentCall;
+        return distinctNodes;
     }
 
-    private void collectNode(LinkedNode node, int i){
-        letters[i] = node.getLetter();
-        eows[i] = node.getEOW();
+    public int getNumberOfDistinctNodes() {
+        return nuberOfDistinctNodes;
     }
 
     public char[] getLetters() {
-        return Arrays.copyOfRange(letters, 0, nuberOfDistinctNodes);
+        return letters;
     }
 
     public boolean[] getEOWs() {
-        return Arrays.copyOfRange(eows, 0, nuberOfDistinctNodes);
+        return eows;
     }
 
     public int[] getChildIndexes() {
-        return Arrays.copyOfRange(childIndexes, 0, nuberOfDistinctNodes);
+        return childIndexes;
     }
 
     public int[] getBrotherIndexes() {
-        return Arrays.copyOfRange(brotherIndexes, 0, nuberOfDistinctNodes);
+        return brotherIndexes;
     }
 }
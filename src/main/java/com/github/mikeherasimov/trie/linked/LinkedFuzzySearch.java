@@ -0,0 +1,78 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.WordVisitor;
+
+import java.util.Arrays;
+
+/**
+ * LinkedFuzzySearch finds words, which Levenshtein distance to query doesn't exceed specified bound.
+ * Trie is walked in preorder together with rows of Levenshtein distance matrix: row of node
+ * is computed from row of its ancestor, so each node costs <code>query.length() + 1</code> operations.
+ * When all values of row exceed the bound, no word below the node can match,
+ * so child subtrie of node is skipped.
+ * Rows are kept per depth and reused by all nodes of the same depth.
+ */
+final class LinkedFuzzySearch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private LinkedFuzzySearch(){
+
+    }
+
+    /**
+     * Passes all words of subtrie, which are within <code>maxEdits</code> insertions, deletions
+     * and substitutions from query, to visitor.
+     *
+     * @param root                       root node of trie
+     * @param query                      query word
+     * @param maxEdits                   maximal Levenshtein distance
+     * @param visitor                    visitor, which can stop search by returning <code>false</code>
+     * @throws IllegalArgumentException  if maxEdits is negative
+     */
+    public static void search(LinkedNode root, CharSequence query, int maxEdits, WordVisitor visitor){
+        if (maxEdits < 0){
+            throw new IllegalArgumentException("Number of edits can't be negative: " + maxEdits);
+        }
+        int columns = query.length() + 1;
+        int[][] rows = new int[INITIAL_CAPACITY][];
+        char[] buffer = new char[INITIAL_CAPACITY];
+        rows[0] = new int[columns];
+        for (int i = 0; i < columns; i++) {
+            rows[0][i] = i;
+        }
+
+        LinkedNodeWalker walker = new LinkedNodeWalker(root.getChild());
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            int depth = walker.depth();
+            if (depth + 1 == rows.length){
+                rows = Arrays.copyOf(rows, rows.length * 2);
+                buffer = Arrays.copyOf(buffer, rows.length);
+            }
+            if (rows[depth + 1] == null){
+                rows[depth + 1] = new int[columns];
+            }
+            buffer[depth] = current.getLetter();
+
+            int minimum = nextRow(rows[depth], rows[depth + 1], query, current.getLetter());
+            int distance = rows[depth + 1][columns - 1];
+            if (current.getEOW() && distance <= maxEdits && !visitor.visit(buffer, depth + 1)){
+                return;
+            }
+            if (minimum > maxEdits){
+                walker.skipChild();
+            }
+        }
+    }
+
+    private static int nextRow(int[] previous, int[] row, CharSequence query, char letter){
+        row[0] = previous[0] + 1;
+        int minimum = row[0];
+        for (int i = 1; i < row.length; i++) {
+            int substitution = previous[i - 1] + (query.charAt(i - 1) == letter ? 0 : 1);
+            row[i] = Math.min(substitution, Math.min(previous[i], row[i - 1]) + 1);
+            minimum = Math.min(minimum, row[i]);
+        }
+        return minimum;
+    }
+}
@@ -1,14 +1,11 @@
 package com.github.mikeherasimov.trie.linked;
 
 import com.github.mikeherasimov.trie.Node;
-import gnu.trove.list.linked.TCharLinkedList;
-import gnu.trove.map.custom_hash.TObjectIntCustomHashMap;
-import gnu.trove.strategy.IdentityHashingStrategy;
 
-import java.util.IdentityHashMap;
-import java.util.Objects;
+import java.util.Arrays;
 
 class LinkedNode implements Node {
+	private static final int INITIAL_CAPACITY = 64;
 	
 	private boolean EOW;
 	private char letter;
@@ -26,9 +23,25 @@ class LinkedNode implements Node {
 	}
 
 	public static LinkedNode newInstance(LinkedNode node){
-		LinkedNode root = weakCopy(node);
-		copy(node, root);
-		return root;
+		LinkedNode[] copies = new LinkedNode[INITIAL_CAPACITY];
+		LinkedNodeWalker walker = new LinkedNodeWalker(node);
+		while (walker.hasNext()) {
+			LinkedNode copy = weakCopy(walker.next());
+			int index = walker.index();
+			if (index == copies.length) {
+				copies = Arrays.copyOf(copies, index * 2);
+			}
+			copies[index] = copy;
+			if (index == 0) {
+				continue;
+			}
+			if (walker.isChild()) {
+				copies[walker.referrerIndex()].setChild(copy);
+			} else {
+				copies[walker.referrerIndex()].setBrother(copy);
+			}
+		}
+		return copies[0];
 	}
 	
 	public void setBrother(LinkedNode brother) {
@@ -44,6 +57,10 @@ class LinkedNode implements Node {
 		EOW = true;
 	}
 
+	public void unsetAsEOW(){
+		EOW = false;
+	}
+
 	@Override
 	public char getLetter() {
 		return letter;
@@ -80,86 +97,55 @@ class LinkedNode implements Node {
 		if(obj == this) return true;
 		if(!(obj instanceof LinkedNode)) return false;
 		LinkedNode node = (LinkedNode) obj;
-		return node.getLetter() == letter && node.getEOW() == EOW &&
-				Objects.equals(child, node.getChild()) &&
-				Objects.equals(brother, node.getBrother());
+		if(!equalValues(this, node)) return false;
+		if(child == null && brother == null) return true;
+		LinkedNodeWalker walker = new LinkedNodeWalker(this);
+		LinkedNodeWalker otherWalker = new LinkedNodeWalker(node);
+		while (walker.hasNext()) {
+			LinkedNode current = walker.next();
+			LinkedNode other = otherWalker.next();
+			if (current == other) {
+				walker.skipSubtrie();
+				otherWalker.skipSubtrie();
+			} else if (!equalValues(current, other)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean equalValues(LinkedNode node, LinkedNode other) {
+		return node.letter == other.letter && node.EOW == other.EOW &&
+				(node.child == null) == (other.child == null) &&
+				(node.brother == null) == (other.brother == null);
 	}
 	
 	@Override
 	public int hashCode() {
 		int result = 17;
-		result = 31 * result + (EOW ? 1:0);
-		result = 31 * result + letter;
-		result = 31 * result + (brother == null ? 0:brother.hashCode());
-		result = 31 * result + (child == null ? 0:child.hashCode());
-		return result;
-	}
-
-	private static void copy(LinkedNode node, LinkedNode copy){
-		if(node.child != null) {
-			LinkedNode childCopy = weakCopy(node.child);
-			copy.setChild(childCopy);
-			copy(node.child, copy.child);
-		}
-		if(node.brother != null) {
-			LinkedNode brotherCopy = weakCopy(node.brother);
-			copy.setBrother(brotherCopy);
-			copy(node.brother, copy.brother);
+		LinkedNodeWalker walker = new LinkedNodeWalker(this);
+		while (walker.hasNext()) {
+			LinkedNode current = walker.next();
+			result = 31 * result + (current.EOW ? 1:0);
+			result = 31 * result + current.letter;
+			result = 31 * result + (current.child == null ? 0:1);
+			result = 31 * result + (current.brother == null ? 0:1);
 		}
+		return result;
 	}
 
 	private static LinkedNode weakCopy(LinkedNode node){
 		return new LinkedNode(node.letter, node.EOW);
 	}
 
-	public char[] serializeSubtrie(){
-		TCharLinkedList charLinkedList = new TCharLinkedList();
-		preorderSerialize(charLinkedList, this);
-		return charLinkedList.toArray();
-	}
-
-	private void preorderSerialize(TCharLinkedList list, LinkedNode current){
-		if(current == null){
-			list.add(')');
-		} else {
-			list.add(current.letter);
-			if(current.getEOW()){
-				list.add('*');
-			}
-			preorderSerialize(list, current.child);
-			preorderSerialize(list, current.brother);
-		}
-	}
-
-	private static int recursiveCallsCount = -1;
-
-	public static LinkedNode deserializeSubtrie(char[] sequence){
-		LinkedNode rootOfSubtrie = preorderDeserialize(sequence);
-		recursiveCallsCount = -1;
-		return rootOfSubtrie;
-	}
-
-	private static LinkedNode preorderDeserialize(char[] sequence){
-		char letter = sequence[++recursiveCallsCount];
-		if(letter == ')'){
-			return null;
-		}
-		boolean EOW = false;
-		if(sequence[recursiveCallsCount + 1] == '*'){
-			recursiveCallsCount++;
-			EOW = true;
-		}
-
-		LinkedNode root = new LinkedNode(letter, EOW);
-		root.child = preorderDeserialize(sequence);
-		root.brother = preorderDeserialize(sequence);
-		return root;
-	}
-
 	public int numberOfNodesInSubtrie(){
-		int childCount = child == null ? 0 : child.numberOfNodesInSubtrie();
-		int brotherCount = getBrother() == null ? 0 : brother.numberOfNodesInSubtrie();
-		return 1 + childCount + brotherCount;
+		int count = 0;
+		LinkedNodeWalker walker = new LinkedNodeWalker(this);
+		while (walker.hasNext()) {
+			walker.next();
+			count++;
+		}
+		return count;
 	}
 
 }
@@ -0,0 +1,35 @@
+package com.github.mikeherasimov.trie.linked;
+
+import gnu.trove.strategy.HashingStrategy;
+
+/**
+ * Hashing strategy that compares nodes by letter, EOW and identity of their child and brother.
+ * It is valid only for nodes, which child and brother are already unique (minimized),
+ * in that case shallow comparison gives the same result as deep <code>LinkedNode.equals</code>,
+ * but it takes constant time.
+ */
+class LinkedNodeHashingStrategy implements HashingStrategy<LinkedNode> {
+    private static final long serialVersionUID = 1L;
+    public static final LinkedNodeHashingStrategy INSTANCE = new LinkedNodeHashingStrategy();
+
+    private LinkedNodeHashingStrategy(){
+
+    }
+
+    @Override
+    public int computeHashCode(LinkedNode node) {
+        int result = 17;
+        result = 31 * result + (node.getEOW() ? 1:0);
+        result = 31 * result + node.getLetter();
+        result = 31 * result + System.identityHashCode(node.getChild());
+        result = 31 * result + System.identityHashCode(node.getBrother());
+        return result;
+    }
+
+    @Override
+    public boolean equals(LinkedNode first, LinkedNode second) {
+        return first == second || first != null && second != null &&
+                first.getLetter() == second.getLetter() && first.getEOW() == second.getEOW() &&
+                first.getChild() == second.getChild() && first.getBrother() == second.getBrother();
+    }
+}
@@ -0,0 +1,144 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * LinkedNodeWalker makes preorder traversal of subtrie, which consists of root node, its child and brother subtries.
+ * Child subtrie of node is visited before its brother subtrie, so order of nodes is the same as order
+ * of recursive traversal, but walker keeps nodes, which have to be visited, in explicit stack of primitive arrays.
+ * That is why depth of traversal isn't limited by size of thread stack.
+ * <p>
+ * For each visited node walker knows its preorder index, index of its ancestor, index of node,
+ * that refers to it (ancestor for first child and previous brother for others), and its depth.
+ * Child and brother of visited node are pushed to stack only when the next node is requested,
+ * so traversal of them can be skipped by <code>skipSubtrie()</code> or <code>skipChild()</code>.
+ */
+final class LinkedNodeWalker {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private LinkedNode[] nodes = new LinkedNode[INITIAL_CAPACITY];
+    private int[] ancestors = new int[INITIAL_CAPACITY];
+    private int[] referrers = new int[INITIAL_CAPACITY];
+    private int[] depths = new int[INITIAL_CAPACITY];
+    private int top;
+
+    private LinkedNode current;
+    private int index;
+    private int ancestorIndex;
+    private int referrerIndex;
+    private int depth;
+    private boolean skip;
+    private boolean skipChild;
+
+    public LinkedNodeWalker(LinkedNode root){
+        reset(root, 0);
+    }
+
+    /**
+     * Starts new traversal of subtrie, reusing stack of this walker.
+     *
+     * @param root   root node of subtrie, <code>null</code> means empty subtrie
+     * @param depth  depth of root node
+     */
+    public void reset(LinkedNode root, int depth){
+        Arrays.fill(nodes, 0, top, null);
+        top = 0;
+        current = null;
+        index = -1;
+        if (root != null){
+            push(root, -1, -1, depth);
+        }
+    }
+
+    public boolean hasNext(){
+        pushDescendants();
+        return top > 0;
+    }
+
+    public LinkedNode next(){
+        pushDescendants();
+        if (top == 0){
+            throw new NoSuchElementException();
+        }
+        top--;
+        current = nodes[top];
+        nodes[top] = null;
+        ancestorIndex = ancestors[top];
+        referrerIndex = referrers[top];
+        depth = depths[top];
+        index++;
+        skip = false;
+        skipChild = false;
+        return current;
+    }
+
+    /**
+     * Excludes child and brother subtries of current node from traversal.
+     */
+    public void skipSubtrie(){
+        skip = true;
+    }
+
+    /**
+     * Excludes child subtrie of current node from traversal, but keeps its brother subtrie.
+     */
+    public void skipChild(){
+        skipChild = true;
+    }
+
+    public int index(){
+        return index;
+    }
+
+    public int ancestorIndex(){
+        return ancestorIndex;
+    }
+
+    public int referrerIndex(){
+        return referrerIndex;
+    }
+
+    /**
+     * Returns true if current node is referred by its ancestor as child and not by its brother
+     *
+     * @return  <code>true</code> if current node is first child of its ancestor
+     */
+    public boolean isChild(){
+        return referrerIndex == ancestorIndex;
+    }
+
+    public int depth(){
+        return depth;
+    }
+
+    private void pushDescendants(){
+        if (current == null){
+            return;
+        }
+        if (!skip){
+            if (current.getBrother() != null){
+                push(current.getBrother(), ancestorIndex, index, depth);
+            }
+            if (current.getChild() != null && !skipChild){
+                push(current.getChild(), index, index, depth + 1);
+            }
+        }
+        current = null;
+    }
+
+    private void push(LinkedNode node, int ancestor, int referrer, int depth){
+        if (top == nodes.length){
+            int capacity = top * 2;
+            nodes = Arrays.copyOf(nodes, capacity);
+            ancestors = Arrays.copyOf(ancestors, capacity);
+            referrers = Arrays.copyOf(referrers, capacity);
+            depths = Arrays.copyOf(depths, capacity);
+        }
+        nodes[top] = node;
+        ancestors[top] = ancestor;
+        referrers[top] = referrer;
+        depths[top] = depth;
+        top++;
+    }
+}
@@ -26,4 +26,14 @@ class LinkedOptimizerBehaviour implements OptimizerBehaviour<LinkedNode> {
     public int countNodes(LinkedNode current) {
         return current.numberOfNodesInSubtrie();
     }
+
+    @Override
+    public int signatureHashCode(LinkedNode node) {
+        return LinkedNodeHashingStrategy.INSTANCE.computeHashCode(node);
+    }
+
+    @Override
+    public boolean signatureEquals(LinkedNode first, LinkedNode second) {
+        return LinkedNodeHashingStrategy.INSTANCE.equals(first, second);
+    }
 }
@@ -0,0 +1,55 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.WordPattern;
+import com.github.mikeherasimov.trie.WordVisitor;
+
+import java.util.Arrays;
+
+/**
+ * LinkedPatternSearch finds words, which match <code>WordPattern</code>.
+ * Trie is walked in preorder together with automaton of pattern: set of states of node
+ * is computed from set of its ancestor, and when set becomes empty child subtrie of node is skipped,
+ * so only branches, which can still match pattern, are visited.
+ * Sets of states are kept per depth in one <code>long</code> array.
+ */
+final class LinkedPatternSearch {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private LinkedPatternSearch(){
+
+    }
+
+    /**
+     * Passes all words of trie, which match pattern, to visitor.
+     *
+     * @param root     root node of trie
+     * @param pattern  compiled pattern
+     * @param visitor  visitor, which can stop search by returning <code>false</code>
+     */
+    public static void search(LinkedNode root, WordPattern pattern, WordVisitor visitor){
+        int setSize = pattern.stateSetSize();
+        long[] states = new long[INITIAL_CAPACITY * setSize];
+        char[] buffer = new char[INITIAL_CAPACITY];
+        pattern.start(states, 0);
+
+        LinkedNodeWalker walker = new LinkedNodeWalker(root.getChild());
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            int depth = walker.depth();
+            if (depth + 1 == buffer.length){
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+                states = Arrays.copyOf(states, buffer.length * setSize);
+            }
+            buffer[depth] = current.getLetter();
+
+            int offset = (depth + 1) * setSize;
+            if (!pattern.step(states, depth * setSize, current.getLetter(), states, offset)){
+                walker.skipChild();
+                continue;
+            }
+            if (current.getEOW() && pattern.isAccepting(states, offset) && !visitor.visit(buffer, depth + 1)){
+                return;
+            }
+        }
+    }
+}
@@ -2,11 +2,21 @@ package com.github.mikeherasimov.trie.linked;
 
 import com.github.mikeherasimov.trie.Optimizer;
 import com.github.mikeherasimov.trie.Trie;
+import com.github.mikeherasimov.trie.WordGraphs;
+import com.github.mikeherasimov.trie.WordPattern;
+import com.github.mikeherasimov.trie.WordVisitor;
 
 import java.io.Externalizable;
 import java.io.IOException;
 import java.io.ObjectInput;
 import java.io.ObjectOutput;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * LinkedTrie is one of realization of Trie interface.
@@ -15,9 +25,13 @@ import java.io.ObjectOutput;
  * Also it can not be fully optimized to DAWG.
  */
 public final class LinkedTrie implements Trie, Externalizable{
+    private static final int INITIAL_CAPACITY = 16;
+    private static final AtomicReferenceFieldUpdater<LinkedTrie, QueryCounters> COUNTERS_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(LinkedTrie.class, QueryCounters.class, "counters");
 
     private int size;
     private LinkedNode root;
+    private volatile QueryCounters counters;
 
     /**
      * Returns new LinkedTrie object, that can hold any <code>String</code>`s.
@@ -55,6 +69,134 @@ public final class LinkedTrie implements Trie, Externalizable{
      */
     @Override
     public void add(String word) throws IllegalArgumentException {
+        addSequence(word);
+    }
+
+    /**
+     * Removes specified word from this LinkedTrie.
+     * Nodes, which don't lead to any word after removal, are unlinked from their ancestors and brothers.
+     *
+     * @param word  word to be removed from this Trie
+     * @return      <code>true</code> if this LinkedTrie contained specified word
+     */
+    @Override
+    public boolean remove(String word) {
+        int length = word.length();
+        LinkedNode[] path = new LinkedNode[length + 1];
+        LinkedNode[] previousBrothers = new LinkedNode[length + 1];
+        path[0] = root;
+        for (int i = 0; i < length; i++) {
+            LinkedNode previous = null;
+            LinkedNode current = path[i].getChild();
+            while (current != null && current.getLetter() != word.charAt(i)) {
+                previous = current;
+                current = current.getBrother();
+            }
+            if (current == null){
+                return false;
+            }
+            path[i + 1] = current;
+            previousBrothers[i + 1] = previous;
+        }
+        if (length == 0 || !path[length].getEOW()){
+            return false;
+        }
+
+        path[length].unsetAsEOW();
+        size--;
+        for (int i = length; i > 0 && path[i].getChild() == null && !path[i].getEOW(); i--) {
+            if (previousBrothers[i] == null){
+                path[i - 1].setChild(path[i].getBrother());
+            } else {
+                previousBrothers[i].setBrother(path[i].getBrother());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Appends all words, supplied by iterable, to this LinkedTrie.
+     *
+     * @param words  words to be added to this Trie
+     */
+    public void addAll(Iterable<? extends CharSequence> words) {
+        addAll(words.iterator());
+    }
+
+    /**
+     * Appends all remaining words of iterator to this LinkedTrie.
+     *
+     * @param words  words to be added to this Trie
+     */
+    public void addAll(Iterator<? extends CharSequence> words) {
+        while (words.hasNext()){
+            addSequence(words.next());
+        }
+    }
+
+    /**
+     * Appends all words, supplied by iterable in lexicographic order, to this LinkedTrie.
+     *
+     * @param words  words to be added to this Trie
+     * @see          #addAllSorted(Iterator)
+     */
+    public void addAllSorted(Iterable<? extends CharSequence> words) {
+        addAllSorted(words.iterator());
+    }
+
+    /**
+     * Appends all remaining words of iterator, supplied in lexicographic order
+     * (in terms of <code>String.compareTo</code>), to this LinkedTrie.
+     * Path of previous word is kept, so each word is appended starting from its longest common prefix
+     * with previous word instead of root. If this LinkedTrie was empty, new nodes are always
+     * the last children of their ancestors, so they are appended without scanning of brothers.
+     * <p>
+     * Unsorted input doesn't break this LinkedTrie, it only disables appending without scanning,
+     * so the rest of words is added as fast as by <code>addAll</code>.
+     *
+     * @param words  words in lexicographic order
+     */
+    public void addAllSorted(Iterator<? extends CharSequence> words) {
+        LinkedNode[] path = new LinkedNode[INITIAL_CAPACITY];
+        char[] previous = new char[INITIAL_CAPACITY];
+        int previousLength = 0;
+        boolean sorted = root.getChild() == null;
+        path[0] = root;
+
+        while (words.hasNext()){
+            CharSequence word = words.next();
+            int length = word.length();
+            if (length == 0){
+                continue;
+            }
+            int common = 0;
+            int limit = Math.min(length, previousLength);
+            while (common < limit && word.charAt(common) == previous[common]){
+                common++;
+            }
+            if (common < limit ? word.charAt(common) < previous[common] : length < previousLength){
+                sorted = false;
+            }
+            if (path.length <= length){
+                int capacity = Math.max(length + 1, path.length * 2);
+                path = Arrays.copyOf(path, capacity);
+                previous = Arrays.copyOf(previous, capacity);
+            }
+
+            LinkedNode lastChild = common < previousLength ? path[common + 1] : null;
+            for (int i = common; i < length; i++) {
+                char letter = word.charAt(i);
+                path[i + 1] = sorted ? appendChild(path[i], lastChild, letter, false) :
+                        createNodeIfNeeds(path[i], letter, false);
+                previous[i] = letter;
+                lastChild = null;
+            }
+            previousLength = length;
+            checkNodeIfExists(path[length], true);
+        }
+    }
+
+    private void addSequence(CharSequence word){
         LinkedNode current = root;
         for (int i = 0, dest = word.length()-1; i < word.length(); i++){
             current = createNodeIfNeeds(current, word.charAt(i),
@@ -70,20 +212,45 @@ public final class LinkedTrie implements Trie, Externalizable{
      * Because of its node structure, where each node contains reference to its brother and child.
      * So when checking nodes for equality LinkedTrie has to check not only all descendants of node,
      * it has to check brother-nodes too.
+     * Duplicates are eliminated bottom-up, so each node of copy is visited only once.
      *
      * @return  <code>DAWG</code> object
      */
     @Override
     public LinkedDAWG toDAWG() {
+        return optimize(new LinkedTrie(this));
+    }
+
+    /**
+     * Makes the same optimization as <code>toDAWG()</code>, using threads of supplied pool.
+     * Subtries of different first letters are optimized concurrently with shared register of unique nodes,
+     * so result is the same as result of <code>toDAWG()</code>.
+     *
+     * @param pool  pool, which threads are used for optimization
+     * @return      <code>DAWG</code> object
+     */
+    public LinkedDAWG toDAWG(ForkJoinPool pool) {
         LinkedTrie copy = new LinkedTrie(this);
-        LinkedSubtrieConverter subtrieConverter = new LinkedSubtrieConverter(copy.root);
+        newOptimizer(copy).eliminateDuplicatesBottomUp(pool);
+        return new LinkedDAWG(copy);
+    }
+
+    static LinkedDAWG optimize(LinkedTrie trie) {
+        newOptimizer(trie).eliminateDuplicatesBottomUp();
+        return new LinkedDAWG(trie);
+    }
 
-        Optimizer<LinkedNode> optimizer =
-                new Optimizer<>(LinkedOptimizerBehaviour.INSTANCE, subtrieConverter);
-        optimizer.eliminateDuplicates();
+    LinkedDAWG toDAWGByLeafComparison() {
+        LinkedTrie copy = new LinkedTrie(this);
+        newOptimizer(copy).eliminateDuplicates();
         return new LinkedDAWG(copy);
     }
 
+    private static Optimizer<LinkedNode> newOptimizer(LinkedTrie trie){
+        LinkedSubtrieConverter subtrieConverter = new LinkedSubtrieConverter(trie.root);
+        return new Optimizer<>(LinkedOptimizerBehaviour.INSTANCE, subtrieConverter);
+    }
+
     @Override
     public boolean isEmpty() {
         return size == 0;
@@ -97,22 +264,326 @@ public final class LinkedTrie implements Trie, Externalizable{
 
     @Override
     public boolean contains(String word) {
-        LinkedNode lastNode = searchNodeBySequence(word);
-        return lastNode != null && lastNode.getEOW();
+        return contains((CharSequence) word);
     }
 
     @Override
     public boolean isPrefix(String prefix) {
-        return searchNodeBySequence(prefix) != null;
+        return isPrefix((CharSequence) prefix);
     }
 
-    private LinkedNode searchNodeBySequence(String sequence){
+    @Override
+    public boolean contains(CharSequence word) {
+        NodeCounter counter = newNodeCounter();
+        LinkedNode lastNode = searchNodeBySequence(word, counter);
+        return record(counter, lastNode != null && lastNode.getEOW());
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        NodeCounter counter = newNodeCounter();
+        return record(counter, searchNodeBySequence(prefix, counter) != null);
+    }
+
+    /**
+     * Returns statistics of structure of this LinkedTrie.
+     * Statistics are calculated by traversal of all nodes, so they aren't updated by further changes.
+     *
+     * @return  <code>TrieStats</code> object
+     */
+    public TrieStats stats() {
+        return TrieStats.calculate(root, size);
+    }
+
+    /**
+     * Enables counting of lookups: all variants of <code>contains()</code> and <code>isPrefix()</code>,
+     * including batched ones (each word of batch is counted as separate query), and <code>longestPrefixMatch()</code>,
+     * which hits if any word is found. Counting adds to each lookup a few atomic increments
+     * and allocation of counter of visited nodes, so it is disabled by default.
+     * If counting is enabled already, it goes on with the same counters.
+     * Counters are published by compare-and-set of volatile field, so concurrent invocations return
+     * the same counters, and lookups of other threads start (and stop) counting right after this method
+     * (or <code>disableQueryCounters()</code>) returns.
+     *
+     * @return  counters of this LinkedTrie
+     */
+    public QueryCounters enableQueryCounters() {
+        QueryCounters created = null;
+        while (true) {
+            QueryCounters counters = this.counters;
+            if (counters != null){
+                return counters;
+            }
+            if (created == null){
+                created = new QueryCounters();
+            }
+            if (COUNTERS_UPDATER.compareAndSet(this, null, created)){
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Disables counting of lookups. Counters, returned before, keep their values.
+     */
+    public void disableQueryCounters() {
+        counters = null;
+    }
+
+    /**
+     * Returns counters of lookups.
+     *
+     * @return  counters or <code>null</code> if counting is disabled
+     */
+    public QueryCounters getQueryCounters() {
+        return counters;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        NodeCounter counter = newNodeCounter();
+        int longest = 0;
+        LinkedNode current = root;
+        for (int i = from; i < text.length(); i++) {
+            current = listScan(current.getChild(), text.charAt(i), counter);
+            if (current == null){
+                break;
+            }
+            if (current.getEOW()){
+                longest = i + 1 - from;
+            }
+        }
+        record(counter, longest > 0);
+        return longest;
+    }
+
+    /**
+     * Returns true if this LinkedTrie contains word, which consists of specified characters of array.
+     * Word isn't copied, so lookup doesn't allocate objects.
+     *
+     * @param chars                       array of characters
+     * @param offset                      index of the first character of word
+     * @param length                      length of word
+     * @return                            <code>true</code> if this LinkedTrie contains specified word
+     * @throws IndexOutOfBoundsException  if range of word is out of bounds of array
+     */
+    public boolean contains(char[] chars, int offset, int length) {
+        NodeCounter counter = newNodeCounter();
+        LinkedNode lastNode = searchNodeByChars(chars, offset, length, counter);
+        return record(counter, lastNode != null && lastNode.getEOW());
+    }
+
+    /**
+     * Returns true if this LinkedTrie contains prefix, which consists of specified characters of array.
+     *
+     * @param chars                       array of characters
+     * @param offset                      index of the first character of prefix
+     * @param length                      length of prefix
+     * @return                            <code>true</code> if this LinkedTrie contains specified prefix
+     * @throws IndexOutOfBoundsException  if range of prefix is out of bounds of array
+     */
+    public boolean isPrefix(char[] chars, int offset, int length) {
+        NodeCounter counter = newNodeCounter();
+        return record(counter, searchNodeByChars(chars, offset, length, counter) != null);
+    }
+
+    /**
+     * Returns true if this LinkedTrie contains word, which is encoded in UTF-8 by specified bytes of array.
+     * Bytes are decoded during traversal, so lookup doesn't allocate objects.
+     * Malformed UTF-8 sequence is never contained. Supplementary code points are looked up
+     * as surrogate pairs, like they are stored in <code>String</code>.
+     *
+     * @param bytes                       array of UTF-8 bytes
+     * @param offset                      index of the first byte of word
+     * @param length                      number of bytes of word
+     * @return                            <code>true</code> if this LinkedTrie contains specified word
+     * @throws IndexOutOfBoundsException  if range of word is out of bounds of array
+     */
+    public boolean contains(byte[] bytes, int offset, int length) {
+        NodeCounter counter = newNodeCounter();
+        LinkedNode lastNode = searchNodeByUTF8(bytes, offset, length, counter);
+        return record(counter, lastNode != null && lastNode.getEOW());
+    }
+
+    /**
+     * Returns true if this LinkedTrie contains prefix, which is encoded in UTF-8 by specified bytes of array.
+     *
+     * @param bytes                       array of UTF-8 bytes
+     * @param offset                      index of the first byte of prefix
+     * @param length                      number of bytes of prefix
+     * @return                            <code>true</code> if this LinkedTrie contains specified prefix
+     * @throws IndexOutOfBoundsException  if range of prefix is out of bounds of array
+     * @see                               #contains(byte[], int, int)
+     */
+    public boolean isPrefix(byte[] bytes, int offset, int length) {
+        NodeCounter counter = newNodeCounter();
+        return record(counter, searchNodeByUTF8(bytes, offset, length, counter) != null);
+    }
+
+    /**
+     * Returns true if this LinkedTrie contains word, which is encoded in UTF-8 by bytes of buffer
+     * in specified absolute range. Position and limit of buffer aren't changed.
+     *
+     * @param buffer                      buffer of UTF-8 bytes
+     * @param offset                      absolute index of the first byte of word
+     * @param length                      number of bytes of word
+     * @return                            <code>true</code> if this LinkedTrie contains specified word
+     * @throws IndexOutOfBoundsException  if range of word is out of limit of buffer
+     * @see                               #contains(byte[], int, int)
+     */
+    public boolean contains(ByteBuffer buffer, int offset, int length) {
+        NodeCounter counter = newNodeCounter();
+        LinkedNode lastNode = searchNodeByUTF8(buffer, offset, length, counter);
+        return record(counter, lastNode != null && lastNode.getEOW());
+    }
+
+    /**
+     * Returns true if this LinkedTrie contains prefix, which is encoded in UTF-8 by bytes of buffer
+     * in specified absolute range. Position and limit of buffer aren't changed.
+     *
+     * @param buffer                      buffer of UTF-8 bytes
+     * @param offset                      absolute index of the first byte of prefix
+     * @param length                      number of bytes of prefix
+     * @return                            <code>true</code> if this LinkedTrie contains specified prefix
+     * @throws IndexOutOfBoundsException  if range of prefix is out of limit of buffer
+     * @see                               #contains(byte[], int, int)
+     */
+    public boolean isPrefix(ByteBuffer buffer, int offset, int length) {
+        NodeCounter counter = newNodeCounter();
+        return record(counter, searchNodeByUTF8(buffer, offset, length, counter) != null);
+    }
+
+    /**
+     * Tests presence of each word of batch in this LinkedTrie.
+     * Words are grouped by their prefixes and each prefix, shared by words of batch, is traversed only once,
+     * then descents of different words are interleaved, so their reads of nodes overlap.
+     * That is why large batch is looked up faster than by separate <code>contains()</code> invocations,
+     * when nodes of this LinkedTrie don't fit in processor cache. If query counters are enabled,
+     * words are looked up one by one, so each of them is counted.
+     *
+     * @param words                      words whose presence is to be tested
+     * @param out                        array, where <code>out[i]</code> is set to result for <code>words[i]</code>
+     * @throws IllegalArgumentException  if <code>out</code> is shorter than <code>words</code>
+     */
+    public void containsAll(CharSequence[] words, boolean[] out) {
+        if (counters != null){
+            countedLookupAll(words, out, false);
+            return;
+        }
+        LinkedBatchLookup.lookup(root, words, out, false);
+    }
+
+    /**
+     * Tests presence of each prefix of batch in this LinkedTrie in the same way as <code>containsAll()</code>.
+     *
+     * @param prefixes                   prefixes whose presence is to be tested
+     * @param out                        array, where <code>out[i]</code> is set to result for <code>prefixes[i]</code>
+     * @throws IllegalArgumentException  if <code>out</code> is shorter than <code>prefixes</code>
+     */
+    public void isPrefixAll(CharSequence[] prefixes, boolean[] out) {
+        if (counters != null){
+            countedLookupAll(prefixes, out, true);
+            return;
+        }
+        LinkedBatchLookup.lookup(root, prefixes, out, true);
+    }
+
+    private void countedLookupAll(CharSequence[] words, boolean[] out, boolean prefixes){
+        LinkedBatchLookup.checkLength(words, out);
+        for (int i = 0; i < words.length; i++) {
+            out[i] = prefixes ? isPrefix(words[i]) : contains(words[i]);
+        }
+    }
+
+    /**
+     * Returns iterator over all words of this LinkedTrie, which start with supplied prefix.
+     * Words are found lazily, while iterator advances, so no intermediate collection is created.
+     *
+     * @param prefix  prefix of words
+     * @return        iterator over words in preorder of this LinkedTrie
+     */
+    public Iterator<String> wordsWithPrefix(CharSequence prefix) {
+        return wordsWithPrefix(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns iterator over first <code>limit</code> words of this LinkedTrie, which start with supplied prefix.
+     * Prefix itself goes first if it is a word. Words go in lexicographic order if they were
+     * added in lexicographic order, otherwise brothers go in order of their addition.
+     *
+     * @param prefix                     prefix of words
+     * @param limit                      maximal number of words
+     * @return                           iterator over words in preorder of this LinkedTrie
+     * @throws IllegalArgumentException  if limit is negative
+     */
+    public Iterator<String> wordsWithPrefix(CharSequence prefix, int limit) {
+        return new LinkedWordIterator(searchNodeBySequence(prefix, null), prefix, limit);
+    }
+
+    /**
+     * Passes first <code>limit</code> words of this LinkedTrie, which start with supplied prefix,
+     * to visitor in the same order as <code>wordsWithPrefix</code> returns them.
+     * All words are passed in one reused buffer, so enumeration doesn't allocate objects per word.
+     *
+     * @param prefix                     prefix of words
+     * @param limit                      maximal number of words
+     * @param visitor                    visitor, which can stop enumeration by returning <code>false</code>
+     * @return                           number of visited words
+     * @throws IllegalArgumentException  if limit is negative
+     */
+    public int forEachWithPrefix(CharSequence prefix, int limit, WordVisitor visitor) {
+        return new LinkedWordIterator(searchNodeBySequence(prefix, null), prefix, limit).forEachRemaining(visitor);
+    }
+
+    /**
+     * Returns all words of this LinkedTrie, which can be turned into query by at most <code>maxEdits</code>
+     * insertions, deletions and substitutions of letters (Levenshtein distance).
+     * Subtries, where distance to every prefix of query exceeds the bound, aren't visited.
+     *
+     * @param query                      query word
+     * @param maxEdits                   maximal Levenshtein distance
+     * @return                           list of words in preorder of this LinkedTrie
+     * @throws IllegalArgumentException  if maxEdits is negative
+     */
+    public List<String> fuzzyMatches(CharSequence query, int maxEdits) {
+        WordCollector collector = new WordCollector();
+        LinkedFuzzySearch.search(root, query, maxEdits, collector);
+        return collector.words;
+    }
+
+    /**
+     * Returns all words of this LinkedTrie, which match supplied pattern.
+     *
+     * @param pattern                    pattern in syntax of <code>WordPattern</code>
+     * @return                           list of words in preorder of this LinkedTrie
+     * @throws IllegalArgumentException  if pattern is malformed
+     * @see                              WordPattern
+     */
+    public List<String> wordsMatching(String pattern) {
+        return wordsMatching(WordPattern.compile(pattern));
+    }
+
+    /**
+     * Returns all words of this LinkedTrie, which match supplied pattern.
+     * Pattern is intersected with this LinkedTrie, so branches, which can't match pattern, aren't visited.
+     *
+     * @param pattern  compiled pattern
+     * @return         list of words in preorder of this LinkedTrie
+     */
+    public List<String> wordsMatching(WordPattern pattern) {
+        WordCollector collector = new WordCollector();
+        LinkedPatternSearch.search(root, pattern, collector);
+        return collector.words;
+    }
+
+    private LinkedNode searchNodeBySequence(CharSequence sequence, NodeCounter counter){
         LinkedNode current = root;
         for (int i = 0; i < sequence.length(); i++) {
             if(current.getChild() == null) {
                 return null;
             }
-            LinkedNode temp = listScan(current.getChild(), sequence.charAt(i));
+            LinkedNode temp = listScan(current.getChild(), sequence.charAt(i), counter);
             if(temp == null) {
                 return null;
             }
@@ -127,14 +598,68 @@ public final class LinkedTrie implements Trie, Externalizable{
     }
 
     private LinkedNode createNodeIfNeeds(LinkedNode ancestor, char letter, boolean EOW){
-        LinkedNode child = listScan(ancestor.getChild(), letter);
-        if (child == null){
-            if (EOW){
-                size++;
+        LinkedNode lastChild = null;
+        for (LinkedNode child = ancestor.getChild(); child != null; child = child.getBrother()) {
+            if (child.getLetter() == letter){
+                return checkNodeIfExists(child, EOW);
             }
-            return addNewChild(ancestor, letter, EOW);
-        } else {
-            return checkNodeIfExists(child, EOW);
+            lastChild = child;
+        }
+        if (EOW){
+            size++;
+        }
+        return appendChild(ancestor, lastChild, letter, EOW);
+    }
+
+    private LinkedNode searchNodeByChars(char[] chars, int offset, int length, NodeCounter counter){
+        checkRange(chars.length, offset, length);
+        LinkedNode current = root;
+        for (int i = offset, end = offset + length; i < end && current != null; i++) {
+            current = listScan(current.getChild(), chars[i], counter);
+        }
+        return current;
+    }
+
+    private LinkedNode searchNodeByUTF8(byte[] bytes, int offset, int length, NodeCounter counter){
+        checkRange(bytes.length, offset, length);
+        LinkedNode current = root;
+        for (int i = offset, end = offset + length; i < end && current != null; ) {
+            int codePoint = Utf8.decode(bytes, i, end);
+            if (codePoint == Utf8.MALFORMED){
+                return null;
+            }
+            current = searchChildByCodePoint(current, codePoint, counter);
+            i += Utf8.encodedLength(codePoint);
+        }
+        return current;
+    }
+
+    private LinkedNode searchNodeByUTF8(ByteBuffer buffer, int offset, int length, NodeCounter counter){
+        checkRange(buffer.limit(), offset, length);
+        LinkedNode current = root;
+        for (int i = offset, end = offset + length; i < end && current != null; ) {
+            int codePoint = Utf8.decode(buffer, i, end);
+            if (codePoint == Utf8.MALFORMED){
+                return null;
+            }
+            current = searchChildByCodePoint(current, codePoint, counter);
+            i += Utf8.encodedLength(codePoint);
+        }
+        return current;
+    }
+
+    private LinkedNode searchChildByCodePoint(LinkedNode node, int codePoint, NodeCounter counter){
+        if (Character.isBmpCodePoint(codePoint)){
+            return listScan(node.getChild(), (char) codePoint, counter);
+        }
+        node = listScan(node.getChild(), Character.highSurrogate(codePoint), counter);
+        return node == null ? null : listScan(node.getChild(), Character.lowSurrogate(codePoint), counter);
+    }
+
+    private static void checkRange(int size, int offset, int length){
+        if (offset < 0 || length < 0 || offset > size - length){
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + offset + " + " + length +
+                    ") is out of bounds for length " + size);
         }
     }
 
@@ -148,12 +673,51 @@ public final class LinkedTrie implements Trie, Externalizable{
         return null;
     }
 
-    private LinkedNode addNewChild(LinkedNode ancestor, char letter, boolean EOW){
+    private LinkedNode listScan(LinkedNode child, char letter, NodeCounter counter){
+        return counter == null ? listScan(child, letter) : counter.listScan(child, letter);
+    }
+
+    private NodeCounter newNodeCounter(){
+        QueryCounters counters = this.counters;
+        return counters == null ? null : new NodeCounter(counters);
+    }
+
+    private static boolean record(NodeCounter counter, boolean found){
+        if (counter != null){
+            counter.counters.record(found, counter.nodesVisited);
+        }
+        return found;
+    }
+
+    /**
+     * Counter of nodes, which are compared with letters of one query, while query counters are enabled.
+     */
+    private static final class NodeCounter {
+        private final QueryCounters counters;
+        private int nodesVisited;
+
+        NodeCounter(QueryCounters counters){
+            this.counters = counters;
+        }
+
+        LinkedNode listScan(LinkedNode child, char letter){
+            while(child != null) {
+                nodesVisited++;
+                if(child.getLetter() == letter) {
+                    return child;
+                }
+                child = child.getBrother();
+            }
+            return null;
+        }
+    }
+
+    private static LinkedNode appendChild(LinkedNode ancestor, LinkedNode lastChild, char letter, boolean EOW){
         LinkedNode newChild = new LinkedNode(letter, EOW);
-        if(ancestor.getChild() == null) {
+        if(lastChild == null) {
             ancestor.setChild(newChild);
         } else {
-            ancestor.getChild().getLastBrother().setBrother(newChild);
+            lastChild.setBrother(newChild);
         }
         return newChild;
     }
@@ -166,6 +730,16 @@ public final class LinkedTrie implements Trie, Externalizable{
         return node;
     }
 
+    private static final class WordCollector implements WordVisitor {
+        private final List<String> words = new ArrayList<>();
+
+        @Override
+        public boolean visit(char[] buffer, int length) {
+            words.add(new String(buffer, 0, length));
+            return true;
+        }
+    }
+
     @Override
     public boolean equals(Object obj) {
         if(obj == this) return true;
@@ -174,17 +748,33 @@ public final class LinkedTrie implements Trie, Externalizable{
         return size == trie.size && root.equals(trie.root);
     }
 
+    /**
+     * Writes this LinkedTrie in versioned binary form, where nodes are streamed one by one.
+     *
+     * @param out           the stream to write the object to
+     * @throws IOException  if an I/O error occurs
+     */
     @Override
     public void writeExternal(ObjectOutput out) throws IOException {
-        out.writeInt(size);
-        out.writeObject(root.serializeSubtrie());
+        LinkedTrieFormat.write(out, size, root);
     }
 
+    /**
+     * Reads LinkedTrie, written by <code>writeExternal</code>.
+     *
+     * @param in                               the stream to read data from
+     * @throws java.io.StreamCorruptedException  if stream doesn't contain valid binary form of LinkedTrie
+     * @throws IOException                       if an I/O error occurs
+     */
     @Override
-    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
-        this.size = in.readInt();
-        char[] sequence = (char[]) in.readObject();
-        this.root = LinkedNode.deserializeSubtrie(sequence);
+    public void readExternal(ObjectInput in) throws IOException {
+        LinkedTrie trie = LinkedTrieFormat.read(in);
+        this.size = trie.size;
+        this.root = trie.root;
+    }
+
+    LinkedNode getRoot(){
+        return root;
     }
 
     LinkedDAWGSerializationHelper getDAWGSerializationHelper(){
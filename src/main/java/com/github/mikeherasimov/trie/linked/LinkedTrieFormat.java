@@ -0,0 +1,202 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.Arrays;
+import java.util.zip.CRC32;
+
+/**
+ * LinkedTrieFormat contains algorithms of writing LinkedTrie to binary form and reading it back.
+ * <p>
+ * Binary form starts with magic number and version, which are followed by body, split to blocks
+ * (each block is preceded by its length, block of zero length ends body), and CRC32 checksum of body.
+ * Body contains varint-encoded number of words and all nodes in preorder (child goes before brother).
+ * Each node is one varint, where letter is shifted left by 3 bits and the lowest bits are flags:
+ * EOW, presence of child and presence of brother.
+ * Nodes are written and read one by one, so whole trie never has to be converted to intermediate array.
+ */
+final class LinkedTrieFormat {
+    static final int MAGIC = 0x54524945;
+    static final int VERSION = 1;
+
+    private static final int EOW_FLAG = 1;
+    private static final int CHILD_FLAG = 1 << 1;
+    private static final int BROTHER_FLAG = 1 << 2;
+    private static final int FLAGS_SIZE = 3;
+    private static final int BLOCK_SIZE = 8192;
+    private static final int INITIAL_CAPACITY = 64;
+
+    private LinkedTrieFormat(){
+
+    }
+
+    /**
+     * Writes trie, specified by its root node and number of words, to supplied output.
+     *
+     * @param out           destination output
+     * @param size          number of words in trie
+     * @param root          root node of trie
+     * @throws IOException  if an I/O error occurs
+     */
+    public static void write(DataOutput out, int size, LinkedNode root) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        BlockOutput body = new BlockOutput(out);
+        body.writeVarint(size);
+
+        LinkedNodeWalker walker = new LinkedNodeWalker(root);
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            body.writeVarint(current.getLetter() << FLAGS_SIZE |
+                    (current.getEOW() ? EOW_FLAG : 0) |
+                    (current.getChild() != null ? CHILD_FLAG : 0) |
+                    (current.getBrother() != null ? BROTHER_FLAG : 0));
+        }
+        body.close();
+    }
+
+    /**
+     * Reads trie, written by <code>write</code> method, from supplied input.
+     *
+     * @param in                         source input
+     * @return                           <code>LinkedTrie</code> object
+     * @throws StreamCorruptedException  if input doesn't contain valid LinkedTrie binary form
+     * @throws IOException               if an I/O error occurs
+     */
+    public static LinkedTrie read(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC){
+            throw new StreamCorruptedException("Input doesn't contain LinkedTrie");
+        }
+        int version = in.readUnsignedByte();
+        if (version != VERSION){
+            throw new StreamCorruptedException("Unsupported LinkedTrie format version: " + version);
+        }
+        BlockInput body = new BlockInput(in);
+        int size = body.readVarint();
+
+        LinkedNode[] awaitingBrother = new LinkedNode[INITIAL_CAPACITY];
+        int top = 0;
+        LinkedNode root = null;
+        LinkedNode awaitingChild = null;
+        do {
+            int value = body.readVarint();
+            LinkedNode current = new LinkedNode((char) (value >>> FLAGS_SIZE), (value & EOW_FLAG) != 0);
+            if (root == null){
+                root = current;
+            } else if (awaitingChild != null){
+                awaitingChild.setChild(current);
+            } else {
+                awaitingBrother[--top].setBrother(current);
+            }
+            if ((value & BROTHER_FLAG) != 0){
+                if (top == awaitingBrother.length){
+                    awaitingBrother = Arrays.copyOf(awaitingBrother, top * 2);
+                }
+                awaitingBrother[top++] = current;
+            }
+            awaitingChild = (value & CHILD_FLAG) != 0 ? current : null;
+        } while (awaitingChild != null || top > 0);
+        body.close();
+        return new LinkedTrie(size, root);
+    }
+
+    private static final class BlockOutput {
+        private final DataOutput out;
+        private final CRC32 checksum = new CRC32();
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private int position;
+
+        BlockOutput(DataOutput out){
+            this.out = out;
+        }
+
+        void writeVarint(int value) throws IOException {
+            if (position + 5 > block.length){
+                flush();
+            }
+            while ((value & ~0x7F) != 0) {
+                block[position++] = (byte) (value & 0x7F | 0x80);
+                value >>>= 7;
+            }
+            block[position++] = (byte) value;
+        }
+
+        private void flush() throws IOException {
+            if (position > 0){
+                checksum.update(block, 0, position);
+                out.writeShort(position);
+                out.write(block, 0, position);
+                position = 0;
+            }
+        }
+
+        void close() throws IOException {
+            flush();
+            out.writeShort(0);
+            out.writeInt((int) checksum.getValue());
+        }
+    }
+
+    private static final class BlockInput {
+        private final DataInput in;
+        private final CRC32 checksum = new CRC32();
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private int position;
+        private int limit;
+
+        BlockInput(DataInput in){
+            this.in = in;
+        }
+
+        int readVarint() throws IOException {
+            if (limit - position < 5){
+                return readVarintAcrossBlocks();
+            }
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = block[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0){
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Malformed varint in LinkedTrie binary form");
+        }
+
+        private int readVarintAcrossBlocks() throws IOException {
+            int value = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                if (position == limit){
+                    nextBlock();
+                }
+                byte b = block[position++];
+                value |= (b & 0x7F) << shift;
+                if (b >= 0){
+                    return value;
+                }
+            }
+            throw new StreamCorruptedException("Malformed varint in LinkedTrie binary form");
+        }
+
+        private void nextBlock() throws IOException {
+            limit = in.readUnsignedShort();
+            if (limit == 0 || limit > block.length){
+                throw new StreamCorruptedException("Unexpected end of LinkedTrie binary form");
+            }
+            in.readFully(block, 0, limit);
+            checksum.update(block, 0, limit);
+            position = 0;
+        }
+
+        void close() throws IOException {
+            if (position != limit || in.readUnsignedShort() != 0){
+                throw new StreamCorruptedException("Unexpected data after LinkedTrie nodes");
+            }
+            if (in.readInt() != (int) checksum.getValue()){
+                throw new StreamCorruptedException("Checksum of LinkedTrie binary form doesn't match");
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.WordVisitor;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * LinkedWordIterator lazily enumerates words of subtrie, that starts at node of prefix.
+ * Words are enumerated in preorder (so prefix goes before words, which it starts,
+ * and words go in lexicographic order if they were added in lexicographic order).
+ * Letters of current word are kept in one buffer, which is rewritten from depth of each visited node,
+ * so the only object allocated per word is <code>String</code>, returned by <code>next()</code>.
+ */
+final class LinkedWordIterator implements Iterator<String> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final LinkedNodeWalker walker;
+    private char[] buffer;
+    private int remaining;
+    private int nextLength = -1;
+
+    /**
+     * Returns iterator over words, which start with supplied prefix.
+     *
+     * @param prefixNode  node of the last letter of prefix, <code>null</code> if there are no such words
+     * @param prefix      the prefix
+     * @param limit       maximal number of words to enumerate
+     */
+    LinkedWordIterator(LinkedNode prefixNode, CharSequence prefix, int limit){
+        if (limit < 0){
+            throw new IllegalArgumentException("Limit can't be negative: " + limit);
+        }
+        remaining = limit;
+        buffer = new char[Math.max(INITIAL_CAPACITY, prefix.length() * 2)];
+        for (int i = 0; i < prefix.length(); i++) {
+            buffer[i] = prefix.charAt(i);
+        }
+        walker = new LinkedNodeWalker(null);
+        if (prefixNode != null){
+            walker.reset(prefixNode.getChild(), prefix.length());
+            if (prefixNode.getEOW()){
+                nextLength = prefix.length();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return remaining > 0 && (nextLength >= 0 || advance());
+    }
+
+    @Override
+    public String next() {
+        if (!hasNext()){
+            throw new NoSuchElementException();
+        }
+        String word = new String(buffer, 0, nextLength);
+        consume();
+        return word;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Passes remaining words to visitor until visitor stops enumeration or limit is reached.
+     *
+     * @param visitor  visitor of words
+     * @return         number of visited words
+     */
+    int forEachRemaining(WordVisitor visitor){
+        int visited = 0;
+        while (hasNext()) {
+            visited++;
+            boolean proceed = visitor.visit(buffer, nextLength);
+            consume();
+            if (!proceed){
+                break;
+            }
+        }
+        return visited;
+    }
+
+    private void consume(){
+        nextLength = -1;
+        remaining--;
+    }
+
+    private boolean advance(){
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            int depth = walker.depth();
+            if (depth == buffer.length){
+                buffer = Arrays.copyOf(buffer, buffer.length * 2);
+            }
+            buffer[depth] = current.getLetter();
+            if (current.getEOW()){
+                nextLength = depth + 1;
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * MappedDAWG is immutable DAWG, which is queried directly from memory-mapped file.
+ * Opening of file doesn't parse it or allocate nodes, so it takes constant time,
+ * and several processes, which open the same file, share its pages through page cache.
+ * <p>
+ * File consists of header (magic number, version, number of words and number of nodes) and node table,
+ * where each node takes 12 bytes: letter and EOW flag packed to one <code>int</code>,
+ * index of child and index of brother. All values are stored in big-endian byte order.
+ */
+public final class MappedDAWG extends PackedDAWG {
+    static final int MAGIC = 0x44415747;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int NODE_SIZE = 12;
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final int numberOfNodes;
+
+    private MappedDAWG(ByteBuffer buffer, int size, int numberOfNodes){
+        this.buffer = buffer;
+        this.size = size;
+        this.numberOfNodes = numberOfNodes;
+    }
+
+    /**
+     * Writes supplied LinkedDAWG to file in format of MappedDAWG.
+     *
+     * @param dawg          supplied <code>LinkedDAWG</code> object
+     * @param file          destination file
+     * @throws IOException  if an I/O error occurs
+     */
+    public static void write(LinkedDAWG dawg, File file) throws IOException {
+        write(new FlatDAWG(dawg), file);
+    }
+
+    /**
+     * Writes supplied FlatDAWG to file in format of MappedDAWG.
+     *
+     * @param dawg          supplied <code>FlatDAWG</code> object
+     * @param file          destination file
+     * @throws IOException  if an I/O error occurs
+     */
+    public static void write(FlatDAWG dawg, File file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dawg.size());
+            out.writeInt(dawg.numberOfNodes());
+            for (int i = 0; i < dawg.numberOfNodes(); i++) {
+                out.writeInt(dawg.getNode(i));
+                out.writeInt(dawg.getChildIndex(i));
+                out.writeInt(dawg.getBrotherIndex(i));
+            }
+        }
+    }
+
+    /**
+     * Maps supplied file to memory and returns MappedDAWG, which is backed by it.
+     * File has to be written by <code>write</code> method and mustn't be changed while MappedDAWG is used.
+     *
+     * @param file          file, written by <code>write</code> method
+     * @return              <code>MappedDAWG</code> object
+     * @throws IOException  if an I/O error occurs or file isn't a MappedDAWG file
+     */
+    public static MappedDAWG open(File file) throws IOException {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            if (channel.size() > Integer.MAX_VALUE){
+                throw new IOException("File is too large to be mapped: " + file);
+            }
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC){
+                throw new StreamCorruptedException("Not a MappedDAWG file: " + file);
+            }
+            if (buffer.getInt(4) != VERSION){
+                throw new StreamCorruptedException("Unsupported MappedDAWG version: " + buffer.getInt(4));
+            }
+            int size = buffer.getInt(8);
+            int numberOfNodes = buffer.getInt(12);
+            if (buffer.limit() != HEADER_SIZE + (long) numberOfNodes * NODE_SIZE){
+                throw new StreamCorruptedException("Truncated MappedDAWG file: " + file);
+            }
+            return new MappedDAWG(buffer, size, numberOfNodes);
+        }
+    }
+
+    @Override
+    int getNode(int index) {
+        return buffer.getInt(HEADER_SIZE + index * NODE_SIZE);
+    }
+
+    @Override
+    int getChildIndex(int index) {
+        return buffer.getInt(HEADER_SIZE + index * NODE_SIZE + 4);
+    }
+
+    @Override
+    int getBrotherIndex(int index) {
+        return buffer.getInt(HEADER_SIZE + index * NODE_SIZE + 8);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int numberOfNodes() {
+        return numberOfNodes;
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.nio.ByteBuffer;
+
+/**
+ * OffHeapDAWG is immutable DAWG, which node table is stored in direct <code>ByteBuffer</code>`s outside of heap.
+ * Node table is split to segments of fixed number of nodes, so it isn't limited by maximal size of one buffer.
+ * Heap footprint of OffHeapDAWG doesn't depend on number of nodes, so it doesn't affect garbage collection pauses.
+ * <p>
+ * Each node takes 12 bytes: letter and EOW flag packed to one <code>int</code>, index of child and index of brother.
+ * Note that construction of OffHeapDAWG temporarily needs arrays of source DAWG on heap.
+ */
+public final class OffHeapDAWG extends PackedDAWG {
+    private static final int NODE_SIZE = 12;
+    private static final int SEGMENT_SHIFT = 20;
+    private static final int NODES_PER_SEGMENT = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = NODES_PER_SEGMENT - 1;
+
+    private final ByteBuffer[] segments;
+    private final int size;
+    private final int numberOfNodes;
+
+    /**
+     * Returns OffHeapDAWG, that contains the same words as supplied FlatDAWG.
+     *
+     * @param dawg  supplied <code>FlatDAWG</code> object
+     */
+    public OffHeapDAWG(FlatDAWG dawg){
+        size = dawg.size();
+        numberOfNodes = dawg.numberOfNodes();
+        segments = new ByteBuffer[(numberOfNodes + NODES_PER_SEGMENT - 1) >>> SEGMENT_SHIFT];
+        for (int i = 0; i < segments.length; i++) {
+            int nodesInSegment = Math.min(NODES_PER_SEGMENT, numberOfNodes - (i << SEGMENT_SHIFT));
+            segments[i] = ByteBuffer.allocateDirect(nodesInSegment * NODE_SIZE);
+        }
+        for (int i = 0; i < numberOfNodes; i++) {
+            ByteBuffer segment = segments[i >>> SEGMENT_SHIFT];
+            int offset = (i & SEGMENT_MASK) * NODE_SIZE;
+            segment.putInt(offset, dawg.getNode(i));
+            segment.putInt(offset + 4, dawg.getChildIndex(i));
+            segment.putInt(offset + 8, dawg.getBrotherIndex(i));
+        }
+    }
+
+    /**
+     * Returns OffHeapDAWG, that contains the same words as supplied LinkedDAWG.
+     *
+     * @param dawg  supplied <code>LinkedDAWG</code> object
+     */
+    public OffHeapDAWG(LinkedDAWG dawg){
+        this(new FlatDAWG(dawg));
+    }
+
+    /**
+     * Returns OffHeapDAWG, that contains the same words as supplied LinkedTrie.
+     * More formally makes optimization of supplied LinkedTrie to DAWG and moves it out of heap.
+     *
+     * @param trie  supplied <code>LinkedTrie</code> object
+     */
+    public OffHeapDAWG(LinkedTrie trie){
+        this(trie.toDAWG());
+    }
+
+    @Override
+    int getNode(int index) {
+        return segments[index >>> SEGMENT_SHIFT].getInt((index & SEGMENT_MASK) * NODE_SIZE);
+    }
+
+    @Override
+    int getChildIndex(int index) {
+        return segments[index >>> SEGMENT_SHIFT].getInt((index & SEGMENT_MASK) * NODE_SIZE + 4);
+    }
+
+    @Override
+    int getBrotherIndex(int index) {
+        return segments[index >>> SEGMENT_SHIFT].getInt((index & SEGMENT_MASK) * NODE_SIZE + 8);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int numberOfNodes() {
+        return numberOfNodes;
+    }
+}
@@ -0,0 +1,95 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.DAWG;
+import com.github.mikeherasimov.trie.WordGraphs;
+
+/**
+ * PackedDAWG is base class for DAWGs, which nodes are stored as records of node table instead of objects.
+ * Each record consists of letter and EOW flag packed to one <code>int</code> and indexes of child and brother,
+ * where 0 means absence of reference (root, which is stored under index 0, can't be child or brother of any node).
+ * Realizations define only where node table is stored.
+ */
+abstract class PackedDAWG implements DAWG {
+    static final int LETTER_MASK = 0xFFFF;
+    static final int EOW_FLAG = 1 << 16;
+
+    static int pack(char letter, boolean eow){
+        return letter | (eow ? EOW_FLAG : 0);
+    }
+
+    /**
+     * Returns letter and EOW flag of node, packed to one <code>int</code>
+     *
+     * @param index  index of node
+     * @return       packed letter and EOW flag
+     */
+    abstract int getNode(int index);
+
+    abstract int getChildIndex(int index);
+
+    abstract int getBrotherIndex(int index);
+
+    /**
+     * Returns number of distinct nodes of this DAWG.
+     *
+     * @return  number of distinct nodes
+     */
+    public abstract int numberOfNodes();
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        int lastNode = searchNodeBySequence(word);
+        return lastNode >= 0 && (getNode(lastNode) & EOW_FLAG) != 0;
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return searchNodeBySequence(prefix) >= 0;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        int current = 0;
+        for (int i = from; i < text.length(); i++) {
+            current = findChild(current, text.charAt(i));
+            if (current == 0){
+                break;
+            }
+            if ((getNode(current) & EOW_FLAG) != 0){
+                longest = i + 1 - from;
+            }
+        }
+        return longest;
+    }
+
+    private int searchNodeBySequence(CharSequence sequence){
+        int current = 0;
+        for (int i = 0; i < sequence.length(); i++) {
+            current = findChild(current, sequence.charAt(i));
+            if (current == 0){
+                return -1;
+            }
+        }
+        return current;
+    }
+
+    private int findChild(int node, char letter){
+        int child = getChildIndex(node);
+        while (child != 0 && (getNode(child) & LETTER_MASK) != letter) {
+            child = getBrotherIndex(child);
+        }
+        return child;
+    }
+}
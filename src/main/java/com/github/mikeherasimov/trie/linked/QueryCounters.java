@@ -0,0 +1,117 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * QueryCounters counts lookups of words and prefixes (<code>contains()</code>, <code>isPrefix()</code>
+ * and <code>longestPrefixMatch()</code>) of LinkedTrie or LinkedDAWG, which enabled them:
+ * number of queries, hits, misses and nodes, compared with letters of queries.
+ * <p>
+ * Lookups of different threads don't contend for one counter: each counter is split into cells
+ * on separate cache lines, thread adds to the cell, chosen by its id, and value of counter is sum of cells.
+ * So value, read during concurrent lookups, is sum of values of cells at slightly different moments.
+ */
+public final class QueryCounters {
+    private static final int QUERIES = 0;
+    private static final int HITS = 1;
+    private static final int NODES_VISITED = 2;
+    private static final int NUMBER_OF_COUNTERS = 3;
+    /**
+     * Distance between cells of different threads in longs (128 bytes), so they are never on the same cache line.
+     */
+    private static final int CELL_STRIDE = 16;
+
+    private final int cellMask;
+    private final AtomicLongArray cells;
+
+    QueryCounters(){
+        int numberOfCells = Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) * 2;
+        cellMask = numberOfCells - 1;
+        cells = new AtomicLongArray(numberOfCells * CELL_STRIDE);
+    }
+
+    /**
+     * Counts one query.
+     *
+     * @param hit           <code>true</code> if word or prefix was found
+     * @param nodesVisited  number of nodes, which were compared with letters of query
+     */
+    void record(boolean hit, int nodesVisited){
+        int cell = ((int) Thread.currentThread().getId() & cellMask) * CELL_STRIDE;
+        cells.getAndIncrement(cell + QUERIES);
+        if (hit){
+            cells.getAndIncrement(cell + HITS);
+        }
+        cells.getAndAdd(cell + NODES_VISITED, nodesVisited);
+    }
+
+    private long sum(int counter){
+        long sum = 0;
+        for (int cell = 0; cell < cells.length(); cell += CELL_STRIDE) {
+            sum += cells.get(cell + counter);
+        }
+        return sum;
+    }
+
+    public long getQueries() {
+        return sum(QUERIES);
+    }
+
+    public long getHits() {
+        return sum(HITS);
+    }
+
+    public long getMisses() {
+        return getQueries() - getHits();
+    }
+
+    public long getNodesVisited() {
+        return sum(NODES_VISITED);
+    }
+
+    /**
+     * Returns average number of nodes, which were compared with letters of one query.
+     *
+     * @return  average number of visited nodes or 0 if there were no queries
+     */
+    public double getAverageNodesVisited() {
+        long queries = getQueries();
+        return queries == 0 ? 0 : (double) getNodesVisited() / queries;
+    }
+
+    /**
+     * Sets all counters to zero.
+     */
+    public void reset() {
+        for (int i = 0; i < cells.length(); i++) {
+            cells.set(i, 0);
+        }
+    }
+
+    /**
+     * Returns values of counters as map from their names
+     * (<code>queries</code>, <code>hits</code>, <code>misses</code>, <code>nodesVisited</code>,
+     * <code>averageNodesVisited</code>) to values.
+     *
+     * @return  new map of values, which isn't connected with counters
+     */
+    public Map<String, Number> toMap() {
+        long queries = getQueries();
+        long hits = getHits();
+        long nodesVisited = getNodesVisited();
+        Map<String, Number> map = new LinkedHashMap<>();
+        map.put("queries", queries);
+        map.put("hits", hits);
+        map.put("misses", queries - hits);
+        map.put("nodesVisited", nodesVisited);
+        map.put("averageNodesVisited", queries == 0 ? 0.0 : (double) nodesVisited / queries);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
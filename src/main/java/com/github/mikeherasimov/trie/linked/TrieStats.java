@@ -0,0 +1,197 @@
+package com.github.mikeherasimov.trie.linked;
+
+import gnu.trove.set.hash.TCustomHashSet;
+import gnu.trove.strategy.IdentityHashingStrategy;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * TrieStats is snapshot of structure of LinkedTrie or LinkedDAWG.
+ * Structure is measured as trie: nodes of DAWG, which are shared by several prefixes, are counted once
+ * for each prefix in number of nodes and histograms, and once in number of distinct nodes, so ratio
+ * of these numbers is compression, achieved by optimization to DAWG (it is 1 for not optimized trie).
+ * Root node isn't counted, except fanout histogram, where it is counted as node with depth 0.
+ * <p>
+ * Statistics are calculated by traversal of all nodes of trie (and all distinct nodes),
+ * so calculation takes time proportional to number of nodes of trie, which is represented by DAWG.
+ */
+public final class TrieStats {
+    /**
+     * Estimated size of LinkedNode in bytes on 64-bit JVM with compressed references:
+     * 12 bytes of header, <code>boolean</code>, <code>char</code> and two references, aligned to 8 bytes.
+     */
+    public static final int NODE_BYTES = 24;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int numberOfWords;
+    private final long numberOfNodes;
+    private final int numberOfDistinctNodes;
+    private final long[] depthHistogram;
+    private final long[] fanoutHistogram;
+    private final double averageBrotherScanLength;
+
+    private TrieStats(int numberOfWords, long numberOfNodes, int numberOfDistinctNodes,
+                      long[] depthHistogram, long[] fanoutHistogram, double averageBrotherScanLength){
+        this.numberOfWords = numberOfWords;
+        this.numberOfNodes = numberOfNodes;
+        this.numberOfDistinctNodes = numberOfDistinctNodes;
+        this.depthHistogram = depthHistogram;
+        this.fanoutHistogram = fanoutHistogram;
+        this.averageBrotherScanLength = averageBrotherScanLength;
+    }
+
+    static TrieStats calculate(LinkedNode root, int numberOfWords){
+        long[] depthHistogram = new long[INITIAL_CAPACITY];
+        long[] fanoutHistogram = new long[INITIAL_CAPACITY];
+        long numberOfNodes = 0;
+        long scanLength = 0;
+        int maxDepth = 0;
+        int maxFanout = 0;
+
+        LinkedNodeWalker walker = new LinkedNodeWalker(root);
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            int depth = walker.depth();
+            if (depth > 0){
+                if (depth == depthHistogram.length){
+                    depthHistogram = Arrays.copyOf(depthHistogram, depth * 2);
+                }
+                depthHistogram[depth]++;
+                maxDepth = Math.max(maxDepth, depth);
+                numberOfNodes++;
+            }
+            int fanout = 0;
+            for (LinkedNode child = current.getChild(); child != null; child = child.getBrother()) {
+                fanout++;
+            }
+            if (fanout >= fanoutHistogram.length){
+                fanoutHistogram = Arrays.copyOf(fanoutHistogram, Math.max(fanout + 1, fanoutHistogram.length * 2));
+            }
+            fanoutHistogram[fanout]++;
+            maxFanout = Math.max(maxFanout, fanout);
+            // child at position k of chain is found after scan of k brothers
+            scanLength += (long) fanout * (fanout + 1) / 2;
+        }
+
+        TCustomHashSet<LinkedNode> distinctNodes = new TCustomHashSet<>(IdentityHashingStrategy.INSTANCE);
+        walker.reset(root.getChild(), 1);
+        while (walker.hasNext()) {
+            if (!distinctNodes.add(walker.next())){
+                walker.skipSubtrie();
+            }
+        }
+
+        return new TrieStats(numberOfWords, numberOfNodes, distinctNodes.size(),
+                Arrays.copyOf(depthHistogram, maxDepth + 1), Arrays.copyOf(fanoutHistogram, maxFanout + 1),
+                numberOfNodes == 0 ? 0 : (double) scanLength / numberOfNodes);
+    }
+
+    public int getNumberOfWords() {
+        return numberOfWords;
+    }
+
+    /**
+     * Returns number of nodes of trie, where each prefix of words has its own node.
+     *
+     * @return  number of nodes
+     */
+    public long getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+    /**
+     * Returns number of node objects, which are shared by prefixes in DAWG.
+     *
+     * @return  number of distinct nodes
+     */
+    public int getNumberOfDistinctNodes() {
+        return numberOfDistinctNodes;
+    }
+
+    /**
+     * Returns histogram of depths of nodes, where element <code>i</code> is number of nodes of depth <code>i</code>
+     * (number of prefixes of length <code>i</code>). Length of histogram is maximal depth plus one.
+     *
+     * @return  copy of histogram
+     */
+    public long[] getDepthHistogram() {
+        return depthHistogram.clone();
+    }
+
+    /**
+     * Returns histogram of fanouts of nodes, where element <code>i</code> is number of nodes,
+     * which have <code>i</code> children (root included). Length of histogram is maximal fanout plus one.
+     *
+     * @return  copy of histogram
+     */
+    public long[] getFanoutHistogram() {
+        return fanoutHistogram.clone();
+    }
+
+    public int getMaxDepth() {
+        return depthHistogram.length - 1;
+    }
+
+    /**
+     * Returns average number of brothers, which are compared with letter to find node in list of children
+     * of its ancestor. Each node is taken once, so it is cost of one step of lookup of random prefix.
+     *
+     * @return  average length of scan of brothers
+     */
+    public double getAverageBrotherScanLength() {
+        return averageBrotherScanLength;
+    }
+
+    /**
+     * Returns estimated size of distinct nodes and root node in bytes (see <code>NODE_BYTES</code>).
+     *
+     * @return  estimated retained size
+     */
+    public long getEstimatedBytes() {
+        return (numberOfDistinctNodes + 1L) * NODE_BYTES;
+    }
+
+    /**
+     * Returns ratio of number of nodes of trie to number of distinct nodes.
+     *
+     * @return  compression ratio or 1 if trie is empty
+     */
+    public double getCompressionRatio() {
+        return numberOfDistinctNodes == 0 ? 1 : (double) numberOfNodes / numberOfDistinctNodes;
+    }
+
+    /**
+     * Returns statistics as map from their names to values. Histograms are flattened to entries
+     * <code>depth.i</code> and <code>fanout.i</code>, which are present only for nonzero elements.
+     *
+     * @return  new map of statistics
+     */
+    public Map<String, Number> toMap() {
+        Map<String, Number> map = new LinkedHashMap<>();
+        map.put("words", numberOfWords);
+        map.put("nodes", numberOfNodes);
+        map.put("distinctNodes", numberOfDistinctNodes);
+        map.put("estimatedBytes", getEstimatedBytes());
+        map.put("compressionRatio", getCompressionRatio());
+        map.put("averageBrotherScanLength", averageBrotherScanLength);
+        map.put("maxDepth", getMaxDepth());
+        for (int i = 0; i < depthHistogram.length; i++) {
+            if (depthHistogram[i] != 0){
+                map.put("depth." + i, depthHistogram[i]);
+            }
+        }
+        for (int i = 0; i < fanoutHistogram.length; i++) {
+            if (fanoutHistogram[i] != 0){
+                map.put("fanout." + i, fanoutHistogram[i]);
+            }
+        }
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+}
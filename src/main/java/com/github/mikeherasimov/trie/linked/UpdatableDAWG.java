@@ -0,0 +1,322 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.DAWG;
+import com.github.mikeherasimov.trie.WordGraphs;
+import gnu.trove.map.custom_hash.TObjectIntCustomHashMap;
+import gnu.trove.map.hash.TCustomHashMap;
+import gnu.trove.strategy.IdentityHashingStrategy;
+
+import java.util.Arrays;
+
+/**
+ * UpdatableDAWG is minimal DAWG, which supports addition and removal of words without rebuilding.
+ * Nodes of UpdatableDAWG are never changed after creation: each node is registered in register
+ * of unique nodes (the same register, that is used by <code>DAWGBuilder</code>) and counts references to it.
+ * When word is added or removed, only nodes on the path of word and their previous brothers are cloned
+ * (all of them can be confluence states, shared with other words), each clone is replaced by equal
+ * registered node if such node exists, and nodes, which aren't referenced anymore, are unregistered.
+ * So DAWG stays minimal after each update, and update takes time proportional to length of word
+ * and number of brothers on its path.
+ * <p>
+ * Brothers are kept in order of their letters, so UpdatableDAWG contains the same nodes
+ * as LinkedDAWG, built from the same words by <code>DAWGBuilder</code>.
+ */
+public final class UpdatableDAWG implements DAWG {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TCustomHashMap<LinkedNode, LinkedNode> register =
+            new TCustomHashMap<>(LinkedNodeHashingStrategy.INSTANCE);
+    private final TObjectIntCustomHashMap<LinkedNode> references =
+            new TObjectIntCustomHashMap<>(IdentityHashingStrategy.INSTANCE);
+
+    private LinkedNode rootChild;
+    private int size;
+
+    private LinkedNode[] heads = new LinkedNode[INITIAL_CAPACITY];
+    private LinkedNode[] targets = new LinkedNode[INITIAL_CAPACITY];
+    private LinkedNode[] chain = new LinkedNode[INITIAL_CAPACITY];
+    private LinkedNode[] stack = new LinkedNode[INITIAL_CAPACITY];
+
+    /**
+     * Returns new empty UpdatableDAWG object.
+     */
+    public UpdatableDAWG(){
+
+    }
+
+    /**
+     * Returns UpdatableDAWG object, that contains words of supplied LinkedDAWG.
+     * Nodes of supplied DAWG are shared, but aren't changed by updates.
+     * UpdatableDAWG is minimal after updates if brothers of supplied DAWG are ordered by their letters,
+     * like in DAWG, built by <code>DAWGBuilder</code>.
+     *
+     * @param dawg  supplied <code>LinkedDAWG</code> object
+     */
+    public UpdatableDAWG(LinkedDAWG dawg){
+        LinkedTrie trie = dawg.getTrie();
+        size = trie.size();
+        rootChild = trie.getRoot().getChild();
+        LinkedNodeWalker walker = new LinkedNodeWalker(rootChild);
+        while (walker.hasNext()) {
+            LinkedNode current = walker.next();
+            if (references.adjustOrPutValue(current, 1, 1) > 1){
+                walker.skipSubtrie();
+            } else {
+                register.putIfAbsent(current, current);
+            }
+        }
+    }
+
+    /**
+     * Appends specified word to this UpdatableDAWG.
+     *
+     * @param word  word to be added
+     * @return      <code>true</code> if this UpdatableDAWG didn't contain specified word
+     */
+    public boolean add(CharSequence word) {
+        if (word.length() == 0 || !update(word, true)){
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    /**
+     * Removes specified word from this UpdatableDAWG.
+     *
+     * @param word  word to be removed
+     * @return      <code>true</code> if this UpdatableDAWG contained specified word
+     */
+    public boolean remove(CharSequence word) {
+        if (word.length() == 0 || !update(word, false)){
+            return false;
+        }
+        size--;
+        return true;
+    }
+
+    private boolean update(CharSequence word, boolean EOW){
+        int length = word.length();
+        ensureCapacity(length);
+        int depth = 0;
+        LinkedNode head = rootChild;
+        for (; depth < length; depth++) {
+            heads[depth] = head;
+            LinkedNode target = findBrother(head, word.charAt(depth));
+            if (target == null){
+                break;
+            }
+            targets[depth] = target;
+            head = target.getChild();
+        }
+        if (depth < length ? !EOW : targets[length - 1].getEOW() == EOW){
+            Arrays.fill(targets, 0, depth, null);
+            return false;
+        }
+
+        LinkedNode newHead;
+        if (depth < length){
+            LinkedNode suffix = null;
+            for (int i = length - 1; i > depth; i--) {
+                suffix = intern(word.charAt(i), i == length - 1, suffix, null);
+            }
+            LinkedNode successor = heads[depth];
+            while (successor != null && successor.getLetter() < word.charAt(depth)) {
+                successor = successor.getBrother();
+            }
+            LinkedNode inserted = intern(word.charAt(depth), depth == length - 1, suffix, successor);
+            newHead = replaceBrothers(heads[depth], successor, inserted);
+        } else {
+            LinkedNode target = targets[--depth];
+            newHead = replaceBrothers(heads[depth], target,
+                    make(target.getLetter(), EOW, target.getChild(), target.getBrother()));
+        }
+        for (int i = depth - 1; i >= 0; i--) {
+            LinkedNode target = targets[i];
+            newHead = replaceBrothers(heads[i], target,
+                    make(target.getLetter(), target.getEOW(), newHead, target.getBrother()));
+        }
+        Arrays.fill(heads, 0, length, null);
+        Arrays.fill(targets, 0, length, null);
+
+        inc(newHead);
+        dec(rootChild);
+        rootChild = newHead;
+        return true;
+    }
+
+    private static LinkedNode findBrother(LinkedNode node, char letter){
+        while (node != null && node.getLetter() != letter) {
+            node = node.getBrother();
+        }
+        return node;
+    }
+
+    /**
+     * Returns the first node of list of brothers, where brothers from <code>head</code> (inclusive)
+     * to <code>end</code> (exclusive) are cloned and followed by <code>replacement</code>.
+     */
+    private LinkedNode replaceBrothers(LinkedNode head, LinkedNode end, LinkedNode replacement){
+        int count = 0;
+        for (LinkedNode node = head; node != end; node = node.getBrother()) {
+            if (count == chain.length){
+                chain = Arrays.copyOf(chain, count * 2);
+            }
+            chain[count++] = node;
+        }
+        LinkedNode current = replacement;
+        for (int i = count - 1; i >= 0; i--) {
+            LinkedNode node = chain[i];
+            chain[i] = null;
+            current = intern(node.getLetter(), node.getEOW(), node.getChild(), current);
+        }
+        return current;
+    }
+
+    /**
+     * Returns registered node with supplied values or its brother if such node doesn't lead to any word.
+     */
+    private LinkedNode make(char letter, boolean EOW, LinkedNode child, LinkedNode brother){
+        if (!EOW && child == null){
+            return brother;
+        }
+        return intern(letter, EOW, child, brother);
+    }
+
+    private LinkedNode intern(char letter, boolean EOW, LinkedNode child, LinkedNode brother){
+        LinkedNode node = new LinkedNode(letter, EOW);
+        node.setChild(child);
+        node.setBrother(brother);
+        LinkedNode existing = register.get(node);
+        if (existing != null){
+            return existing;
+        }
+        register.put(node, node);
+        references.put(node, 0);
+        inc(child);
+        inc(brother);
+        return node;
+    }
+
+    private void inc(LinkedNode node){
+        if (node != null){
+            references.adjustValue(node, 1);
+        }
+    }
+
+    private void dec(LinkedNode node){
+        int top = 0;
+        if (node != null){
+            stack[top++] = node;
+        }
+        while (top > 0) {
+            LinkedNode current = stack[--top];
+            stack[top] = null;
+            if (references.adjustOrPutValue(current, -1, -1) > 0){
+                continue;
+            }
+            references.remove(current);
+            if (register.get(current) == current){
+                register.remove(current);
+            }
+            if (top + 2 > stack.length){
+                stack = Arrays.copyOf(stack, stack.length * 2);
+            }
+            if (current.getChild() != null){
+                stack[top++] = current.getChild();
+            }
+            if (current.getBrother() != null){
+                stack[top++] = current.getBrother();
+            }
+        }
+    }
+
+    private void ensureCapacity(int capacity){
+        if (heads.length < capacity){
+            int newCapacity = Math.max(capacity, heads.length * 2);
+            heads = Arrays.copyOf(heads, newCapacity);
+            targets = Arrays.copyOf(targets, newCapacity);
+        }
+    }
+
+    /**
+     * Returns number of nodes of this UpdatableDAWG (root node isn't counted).
+     *
+     * @return  number of nodes
+     */
+    public int numberOfNodes() {
+        return references.size();
+    }
+
+    /**
+     * Returns LinkedDAWG, that contains words of this UpdatableDAWG.
+     * Nodes are shared, so this operation takes constant time, and returned DAWG
+     * isn't affected by further updates of this UpdatableDAWG.
+     *
+     * @return  <code>LinkedDAWG</code> object
+     */
+    public LinkedDAWG toLinkedDAWG() {
+        LinkedNode root = new LinkedNode();
+        root.setChild(rootChild);
+        return new LinkedDAWG(new LinkedTrie(size, root));
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        LinkedNode lastNode = searchNodeBySequence(word);
+        return lastNode != null && lastNode.getEOW();
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return prefix.length() == 0 || searchNodeBySequence(prefix) != null;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        LinkedNode head = rootChild;
+        for (int i = from; i < text.length(); i++) {
+            LinkedNode current = findBrother(head, text.charAt(i));
+            if (current == null){
+                break;
+            }
+            if (current.getEOW()){
+                longest = i + 1 - from;
+            }
+            head = current.getChild();
+        }
+        return longest;
+    }
+
+    private LinkedNode searchNodeBySequence(CharSequence sequence){
+        if (sequence.length() == 0){
+            return null;
+        }
+        LinkedNode current = findBrother(rootChild, sequence.charAt(0));
+        for (int i = 1; i < sequence.length() && current != null; i++) {
+            current = findBrother(current.getChild(), sequence.charAt(i));
+        }
+        return current;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,136 @@
+package com.github.mikeherasimov.trie.linked;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Utf8 decodes code points from UTF-8 bytes one by one, so words can be looked up
+ * directly in byte arrays and buffers without decoding them to <code>String</code>.
+ * Malformed sequences (overlong forms, encoded surrogates, code points above U+10FFFF,
+ * truncated sequences) are reported as <code>MALFORMED</code>.
+ */
+final class Utf8 {
+    public static final int MALFORMED = -1;
+
+    private Utf8(){
+
+    }
+
+    /**
+     * Decodes code point, which starts at specified index.
+     *
+     * @param bytes  bytes of UTF-8 text
+     * @param index  index of the first byte of code point
+     * @param end    index after the last byte of text
+     * @return       code point or <code>MALFORMED</code>
+     */
+    public static int decode(byte[] bytes, int index, int end){
+        int lead = bytes[index] & 0xFF;
+        int length = sequenceLength(lead);
+        if (length == 0 || length > end - index){
+            return MALFORMED;
+        }
+        switch (length) {
+            case 1:
+                return lead;
+            case 2:
+                return decode(lead, bytes[index + 1]);
+            case 3:
+                return decode(lead, bytes[index + 1], bytes[index + 2]);
+            default:
+                return decode(lead, bytes[index + 1], bytes[index + 2], bytes[index + 3]);
+        }
+    }
+
+    /**
+     * Decodes code point, which starts at specified absolute index of buffer.
+     * Position of buffer isn't changed.
+     *
+     * @param buffer  buffer of UTF-8 text
+     * @param index   index of the first byte of code point
+     * @param end     index after the last byte of text
+     * @return        code point or <code>MALFORMED</code>
+     */
+    public static int decode(ByteBuffer buffer, int index, int end){
+        int lead = buffer.get(index) & 0xFF;
+        int length = sequenceLength(lead);
+        if (length == 0 || length > end - index){
+            return MALFORMED;
+        }
+        switch (length) {
+            case 1:
+                return lead;
+            case 2:
+                return decode(lead, buffer.get(index + 1));
+            case 3:
+                return decode(lead, buffer.get(index + 1), buffer.get(index + 2));
+            default:
+                return decode(lead, buffer.get(index + 1), buffer.get(index + 2), buffer.get(index + 3));
+        }
+    }
+
+    /**
+     * Returns number of bytes, which encode supplied code point.
+     *
+     * @param codePoint  valid code point
+     * @return           length of UTF-8 sequence
+     */
+    public static int encodedLength(int codePoint){
+        if (codePoint < 0x80){
+            return 1;
+        }
+        if (codePoint < 0x800){
+            return 2;
+        }
+        return codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT ? 3 : 4;
+    }
+
+    private static int sequenceLength(int lead){
+        if (lead < 0x80){
+            return 1;
+        }
+        if (lead < 0xC2){
+            return 0;
+        }
+        if (lead < 0xE0){
+            return 2;
+        }
+        if (lead < 0xF0){
+            return 3;
+        }
+        return lead < 0xF5 ? 4 : 0;
+    }
+
+    private static int decode(int lead, byte second){
+        if (!isContinuation(second)){
+            return MALFORMED;
+        }
+        return (lead & 0x1F) << 6 | second & 0x3F;
+    }
+
+    private static int decode(int lead, byte second, byte third){
+        if (!isContinuation(second) || !isContinuation(third)){
+            return MALFORMED;
+        }
+        int codePoint = (lead & 0x0F) << 12 | (second & 0x3F) << 6 | third & 0x3F;
+        if (codePoint < 0x800 ||
+                codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE){
+            return MALFORMED;
+        }
+        return codePoint;
+    }
+
+    private static int decode(int lead, byte second, byte third, byte fourth){
+        if (!isContinuation(second) || !isContinuation(third) || !isContinuation(fourth)){
+            return MALFORMED;
+        }
+        int codePoint = (lead & 0x07) << 18 | (second & 0x3F) << 12 | (third & 0x3F) << 6 | fourth & 0x3F;
+        if (codePoint < Character.MIN_SUPPLEMENTARY_CODE_POINT || codePoint > Character.MAX_CODE_POINT){
+            return MALFORMED;
+        }
+        return codePoint;
+    }
+
+    private static boolean isContinuation(byte value){
+        return (value & 0xC0) == 0x80;
+    }
+}
@@ -0,0 +1,91 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.Node;
+
+/**
+ * WeightedLinkedNode is node of WeightedLinkedTrie.
+ * Besides references to child and brother it holds weight of word, which ends at this node,
+ * and the maximal weight of words in its subtrie (this node and descendants, but not brothers).
+ */
+final class WeightedLinkedNode implements Node {
+    static final long NO_WEIGHT = -1;
+
+    private final char letter;
+    private long weight = NO_WEIGHT;
+    private long maxWeight = NO_WEIGHT;
+
+    private WeightedLinkedNode brother;
+    private WeightedLinkedNode child;
+
+    public WeightedLinkedNode() {
+        this('\0');
+    }
+
+    public WeightedLinkedNode(char letter) {
+        this.letter = letter;
+    }
+
+    /**
+     * Sets node as end-of-word node with zero weight, if it isn't end-of-word node yet.
+     */
+    @Override
+    public void setAsEOW() {
+        if (weight == NO_WEIGHT){
+            weight = 0;
+            maxWeight = Math.max(maxWeight, 0);
+        }
+    }
+
+    @Override
+    public char getLetter() {
+        return letter;
+    }
+
+    @Override
+    public boolean getEOW() {
+        return weight != NO_WEIGHT;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    public void setWeight(long weight) {
+        this.weight = weight;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public void setMaxWeight(long maxWeight) {
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Recalculates the maximal weight of subtrie from weight of this node and maximal weights of its children.
+     */
+    public void updateMaxWeight() {
+        long max = weight;
+        for (WeightedLinkedNode current = child; current != null; current = current.brother) {
+            max = Math.max(max, current.maxWeight);
+        }
+        maxWeight = max;
+    }
+
+    public WeightedLinkedNode getChild() {
+        return child;
+    }
+
+    public void setChild(WeightedLinkedNode child) {
+        this.child = child;
+    }
+
+    public WeightedLinkedNode getBrother() {
+        return brother;
+    }
+
+    public void setBrother(WeightedLinkedNode brother) {
+        this.brother = brother;
+    }
+}
@@ -0,0 +1,254 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.WordGraph;
+import com.github.mikeherasimov.trie.WordGraphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * WeightedLinkedTrie is LinkedTrie, where each word has non-negative weight (for example its popularity).
+ * Each node keeps the maximal weight of words in its subtrie, so the most weighted completions of prefix
+ * are found by best-first search: subtrie is expanded only when its maximal weight is not less than weight
+ * of the next completion, and search stops as soon as required number of completions is found.
+ */
+public final class WeightedLinkedTrie implements WordGraph {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private WeightedLinkedNode root;
+    private WeightedLinkedNode[] path = new WeightedLinkedNode[INITIAL_CAPACITY];
+
+    /**
+     * Returns new WeightedLinkedTrie object, that can hold any <code>String</code>`s.
+     */
+    public WeightedLinkedTrie(){
+        root = new WeightedLinkedNode();
+    }
+
+    /**
+     * Appends specified word with specified weight to this WeightedLinkedTrie.
+     * If word is already present, its weight is replaced.
+     *
+     * @param word                       word to be added
+     * @param weight                     weight of word
+     * @throws IllegalArgumentException  if weight is negative
+     */
+    public void add(String word, long weight) {
+        if (weight < 0){
+            throw new IllegalArgumentException("Weight can't be negative: " + weight);
+        }
+        if (word.length() == 0){
+            return;
+        }
+        if (path.length <= word.length()){
+            path = new WeightedLinkedNode[Math.max(word.length() + 1, path.length * 2)];
+        }
+        path[0] = root;
+        for (int i = 0; i < word.length(); i++) {
+            path[i + 1] = createNodeIfNeeds(path[i], word.charAt(i));
+        }
+
+        WeightedLinkedNode last = path[word.length()];
+        long previous = last.getWeight();
+        if (previous == WeightedLinkedNode.NO_WEIGHT){
+            size++;
+        }
+        last.setWeight(weight);
+        if (weight >= previous){
+            for (int i = word.length(); i >= 0 && path[i].getMaxWeight() < weight; i--) {
+                path[i].setMaxWeight(weight);
+            }
+        } else {
+            for (int i = word.length(); i >= 0; i--) {
+                path[i].updateMaxWeight();
+            }
+        }
+        Arrays.fill(path, 0, word.length() + 1, null);
+    }
+
+    /**
+     * Returns weight of specified word.
+     *
+     * @param word  word, which weight is requested
+     * @return      weight of word or <code>-1</code> if this WeightedLinkedTrie doesn't contain word
+     */
+    public long getWeight(CharSequence word) {
+        WeightedLinkedNode lastNode = searchNodeBySequence(word);
+        return lastNode == null ? WeightedLinkedNode.NO_WEIGHT : lastNode.getWeight();
+    }
+
+    /**
+     * Returns at most <code>k</code> words, which start with supplied prefix and have the greatest weights.
+     * Words are sorted by weight in descending order.
+     *
+     * @param prefix                     prefix of words
+     * @param k                          maximal number of words
+     * @return                           list of the most weighted words
+     * @throws IllegalArgumentException  if k is negative
+     */
+    public List<String> topK(CharSequence prefix, int k) {
+        if (k < 0){
+            throw new IllegalArgumentException("k can't be negative: " + k);
+        }
+        WeightedLinkedNode prefixNode = searchNodeBySequence(prefix);
+        if (prefixNode == null || k == 0){
+            return Collections.emptyList();
+        }
+
+        List<String> words = new ArrayList<>(Math.min(k, size));
+        PriorityQueue<Candidate> queue = new PriorityQueue<>(INITIAL_CAPACITY, CandidateComparator.INSTANCE);
+        queue.add(new Candidate(prefixNode, null, false));
+        while (!queue.isEmpty() && words.size() < k) {
+            Candidate candidate = queue.poll();
+            if (candidate.isWord){
+                words.add(candidate.toWord(prefix));
+                continue;
+            }
+            WeightedLinkedNode node = candidate.node;
+            if (node.getEOW()){
+                queue.add(new Candidate(node, candidate, true));
+            }
+            for (WeightedLinkedNode child = node.getChild(); child != null; child = child.getBrother()) {
+                queue.add(new Candidate(child, candidate, false));
+            }
+        }
+        return words;
+    }
+
+    @Override
+    public boolean contains(String word) {
+        return contains((CharSequence) word);
+    }
+
+    @Override
+    public boolean isPrefix(String prefix) {
+        return isPrefix((CharSequence) prefix);
+    }
+
+    @Override
+    public boolean contains(CharSequence word) {
+        WeightedLinkedNode lastNode = searchNodeBySequence(word);
+        return lastNode != null && lastNode.getEOW();
+    }
+
+    @Override
+    public boolean isPrefix(CharSequence prefix) {
+        return searchNodeBySequence(prefix) != null;
+    }
+
+    @Override
+    public int longestPrefixMatch(CharSequence text, int from) {
+        WordGraphs.checkFromIndex(text, from);
+        int longest = 0;
+        WeightedLinkedNode current = root;
+        for (int i = from; i < text.length(); i++) {
+            current = listScan(current.getChild(), text.charAt(i));
+            if (current == null){
+                break;
+            }
+            if (current.getEOW()){
+                longest = i + 1 - from;
+            }
+        }
+        return longest;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        size = 0;
+        root = new WeightedLinkedNode();
+    }
+
+    private WeightedLinkedNode searchNodeBySequence(CharSequence sequence){
+        WeightedLinkedNode current = root;
+        for (int i = 0; i < sequence.length() && current != null; i++) {
+            current = listScan(current.getChild(), sequence.charAt(i));
+        }
+        return current;
+    }
+
+    private static WeightedLinkedNode listScan(WeightedLinkedNode child, char letter){
+        while (child != null && child.getLetter() != letter) {
+            child = child.getBrother();
+        }
+        return child;
+    }
+
+    private static WeightedLinkedNode createNodeIfNeeds(WeightedLinkedNode ancestor, char letter){
+        WeightedLinkedNode lastChild = null;
+        for (WeightedLinkedNode child = ancestor.getChild(); child != null; child = child.getBrother()) {
+            if (child.getLetter() == letter){
+                return child;
+            }
+            lastChild = child;
+        }
+        WeightedLinkedNode newChild = new WeightedLinkedNode(letter);
+        if (lastChild == null){
+            ancestor.setChild(newChild);
+        } else {
+            lastChild.setBrother(newChild);
+        }
+        return newChild;
+    }
+
+    /**
+     * Candidate is either subtrie, which priority is the maximal weight of its words,
+     * or word, which ends at node of its parent candidate, with priority equal to its weight.
+     * Letters of candidate are restored by its chain of parents.
+     */
+    private static final class Candidate {
+        private final WeightedLinkedNode node;
+        private final Candidate parent;
+        private final boolean isWord;
+        private final int depth;
+
+        Candidate(WeightedLinkedNode node, Candidate parent, boolean isWord){
+            this.node = node;
+            this.parent = parent;
+            this.isWord = isWord;
+            depth = parent == null ? 0 : isWord ? parent.depth : parent.depth + 1;
+        }
+
+        long priority(){
+            return isWord ? node.getWeight() : node.getMaxWeight();
+        }
+
+        String toWord(CharSequence prefix){
+            char[] word = new char[prefix.length() + depth];
+            for (int i = 0; i < prefix.length(); i++) {
+                word[i] = prefix.charAt(i);
+            }
+            for (Candidate current = parent; current.parent != null; current = current.parent) {
+                word[prefix.length() + current.depth - 1] = current.node.getLetter();
+            }
+            return new String(word);
+        }
+    }
+
+    private static final class CandidateComparator implements Comparator<Candidate> {
+        static final CandidateComparator INSTANCE = new CandidateComparator();
+
+        @Override
+        public int compare(Candidate first, Candidate second) {
+            long firstPriority = first.priority();
+            long secondPriority = second.priority();
+            if (firstPriority != secondPriority){
+                return firstPriority > secondPriority ? -1 : 1;
+            }
+            return first.isWord == second.isWord ? 0 : first.isWord ? -1 : 1;
+        }
+    }
+}
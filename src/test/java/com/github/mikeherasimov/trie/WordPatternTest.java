@@ -0,0 +1,69 @@
+package com.github.mikeherasimov.trie;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WordPatternTest {
+
+    @Test
+    public void letters() throws Exception {
+        WordPattern pattern = WordPattern.compile("бар");
+        assertTrue(pattern.matches("бар"));
+        assertFalse(pattern.matches("ба"));
+        assertFalse(pattern.matches("баран"));
+    }
+
+    @Test
+    public void wildcards() throws Exception {
+        WordPattern pattern = WordPattern.compile("c?t*s");
+        assertTrue(pattern.matches("cats"));
+        assertTrue(pattern.matches("cuts"));
+        assertTrue(pattern.matches("cutlass"));
+        assertFalse(pattern.matches("cts"));
+        assertFalse(pattern.matches("cat"));
+        assertTrue(WordPattern.compile("**").matches(""));
+        assertTrue(WordPattern.compile("*a**").matches("banana"));
+    }
+
+    @Test
+    public void classes() throws Exception {
+        WordPattern pattern = WordPattern.compile("[bc]a[^a-m]");
+        assertTrue(pattern.matches("bat"));
+        assertTrue(pattern.matches("can"));
+        assertFalse(pattern.matches("cab"));
+        assertFalse(pattern.matches("rat"));
+        assertTrue(WordPattern.compile("[]-]").matches("]"));
+        assertTrue(WordPattern.compile("[a-]").matches("-"));
+    }
+
+    @Test
+    public void escapes() throws Exception {
+        WordPattern pattern = WordPattern.compile("a\\*\\?\\[");
+        assertTrue(pattern.matches("a*?["));
+        assertFalse(pattern.matches("ab?["));
+    }
+
+    @Test
+    public void longPattern() throws Exception {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            builder.append("?*");
+        }
+        WordPattern pattern = WordPattern.compile(builder.toString());
+        assertTrue(pattern.stateSetSize() == 4);
+        assertTrue(pattern.matches(builder.toString()));
+        assertFalse(pattern.matches("short"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unclosedClass() throws Exception {
+        WordPattern.compile("[abc");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void trailingEscape() throws Exception {
+        WordPattern.compile("abc\\");
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.mikeherasimov.trie.adaptive;
+
+import com.github.mikeherasimov.trie.DAWG;
+import com.github.mikeherasimov.trie.Trie;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class AdaptiveTrieTest {
+    Trie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new AdaptiveTrie();
+        trie.add("war");
+    }
+
+    @Test
+    public void testAdd() throws Exception {
+        trie.add("landscape");
+        trie.add("land");
+        trie.add("war");
+        trie.add("");
+        assertTrue(trie.size() == 3);
+    }
+
+    @Test
+    public void testIsEmpty() throws Exception {
+        assertFalse(trie.isEmpty());
+        trie.clear();
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.isPrefix("w"));
+    }
+
+    @Test
+    public void testContains() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.contains("war"));
+        assertTrue(trie.contains("wall"));
+        assertFalse(trie.contains("wa"));
+        assertFalse(trie.contains("walls"));
+    }
+
+    @Test
+    public void testIsPrefix() throws Exception {
+        assertTrue(trie.isPrefix("wa"));
+        assertTrue(trie.isPrefix(""));
+        assertFalse(trie.isPrefix("wal"));
+    }
+
+    @Test
+    public void testLongestPrefixMatch() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.longestPrefixMatch("warriors", 0) == 7);
+        assertTrue(trie.longestPrefixMatch("warrio", 0) == 3);
+        assertTrue(trie.longestPrefixMatch("the wall", 4) == 4);
+        assertTrue(trie.longestPrefixMatch("the wall", 3) == 0);
+        assertTrue(trie.longestPrefixMatch("war", 3) == 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testLongestPrefixMatchOutOfBounds() throws Exception {
+        trie.longestPrefixMatch("war", 4);
+    }
+
+    @Test
+    public void testHighFanout() throws Exception {
+        AdaptiveTrie adaptiveTrie = new AdaptiveTrie();
+        for (char letter = 'z'; letter >= 'A'; letter--) {
+            adaptiveTrie.add("x" + letter);
+        }
+        adaptiveTrie.add("xĀ");
+        adaptiveTrie.add("x\u0000");
+        adaptiveTrie.add("x￿");
+
+        boolean containsAllWords = true;
+        for (char letter = 'A'; letter <= 'z'; letter++) {
+            containsAllWords &= adaptiveTrie.contains("x" + letter);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(adaptiveTrie.contains("xĀ"));
+        assertTrue(adaptiveTrie.contains("x\u0000"));
+        assertTrue(adaptiveTrie.contains("x￿"));
+        assertFalse(adaptiveTrie.contains("xā"));
+        assertTrue(adaptiveTrie.size() == 'z' - 'A' + 4);
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.remove("warrior"));
+        assertFalse(trie.remove("warrior"));
+        assertFalse(trie.remove("wa"));
+        assertFalse(trie.isPrefix("warr"));
+        assertTrue(trie.contains("war"));
+        assertTrue(trie.remove("war"));
+        assertFalse(trie.isPrefix("war"));
+        assertTrue(trie.contains("wall"));
+        assertTrue(trie.size() == 1);
+    }
+
+    @Test
+    public void testLayouts() throws Exception {
+        AdaptiveNode node = new AdaptiveNode();
+        for (char letter = 'a'; letter < 'a' + AdaptiveNode.MEDIUM_CAPACITY; letter++) {
+            node.addChild(letter);
+        }
+        assertFalse(node.isTable());
+        node.addChild('a');
+        assertFalse(node.isTable());
+        node.addChild('ÿ');
+        assertTrue(node.isTable());
+        assertTrue(node.getChild('b').getLetter() == 'b');
+        node.addChild('Ȁ');
+        assertFalse(node.isTable());
+        assertTrue(node.numberOfChildren() == AdaptiveNode.MEDIUM_CAPACITY + 2);
+        assertTrue(node.getChild('ÿ') != null);
+        assertTrue(node.getChild('Ā') == null);
+    }
+
+    @Test
+    public void testRemoveChildren() throws Exception {
+        AdaptiveNode node = new AdaptiveNode();
+        for (char letter = 'a'; letter <= 'a' + AdaptiveNode.MEDIUM_CAPACITY; letter++) {
+            node.addChild(letter);
+        }
+        assertTrue(node.isTable());
+        assertTrue(node.removeChild('a'));
+        assertFalse(node.removeChild('a'));
+        assertTrue(node.isTable());
+        for (char letter = 'b'; letter <= 'z'; letter++) {
+            node.removeChild(letter);
+        }
+        assertFalse(node.isTable());
+        assertTrue(node.numberOfChildren() == AdaptiveNode.MEDIUM_CAPACITY - 25);
+        assertTrue(node.getChild('z') == null);
+        assertTrue(node.getChild('{').getLetter() == '{');
+        assertTrue(node.removeChild('{'));
+        assertTrue(node.getChild('{') == null);
+        assertTrue(node.getChild('|').getLetter() == '|');
+    }
+
+    @Test
+    public void testToDAWG() throws Exception {
+        String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+        for (String item : words){
+            trie.add(item);
+        }
+
+        DAWG dawg = trie.toDAWG();
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= dawg.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(dawg.contains("war"));
+        assertTrue(dawg.size() == trie.size());
+        assertFalse(dawg.contains("ба"));
+    }
+
+    @Test
+    public void testEquals() throws Exception {
+        AdaptiveTrie copy = new AdaptiveTrie();
+        copy.add("war");
+        assertTrue(trie.equals(copy));
+        copy.add("wall");
+        assertFalse(trie.equals(copy));
+    }
+
+    @Test
+    public void testHashCode() throws Exception {
+        AdaptiveTrie forward = new AdaptiveTrie();
+        AdaptiveTrie backward = new AdaptiveTrie();
+        for (char letter = 'a'; letter <= 'z'; letter++) {
+            forward.add("w" + letter);
+            backward.add("w" + (char) ('a' + 'z' - letter));
+        }
+        for (char letter = 'd'; letter <= 'z'; letter++) {
+            forward.remove("w" + letter);
+            backward.remove("w" + letter);
+        }
+        assertTrue(forward.equals(backward));
+        assertTrue(forward.hashCode() == backward.hashCode());
+        backward.add("war");
+        assertFalse(forward.hashCode() == backward.hashCode());
+    }
+}
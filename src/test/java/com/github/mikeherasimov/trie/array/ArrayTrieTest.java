@@ -0,0 +1,228 @@
+package com.github.mikeherasimov.trie.array;
+
+import com.github.mikeherasimov.trie.DAWG;
+import com.github.mikeherasimov.trie.Trie;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ArrayTrieTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+
+    Trie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new ArrayTrie();
+        trie.add("war");
+    }
+
+    @Test
+    public void testAdd() throws Exception {
+        trie.add("landscape");
+        trie.add("land");
+        trie.add("war");
+        assertTrue(trie.size() == 3);
+        trie.add("wa*");
+        assertTrue(trie.size() == 4);
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        for (String word : words) {
+            trie.add(word);
+        }
+        assertTrue(trie.remove("барабан"));
+        assertFalse(trie.remove("барабан"));
+        assertFalse(trie.remove("ба"));
+        assertFalse(trie.isPrefix("бараб"));
+        assertTrue(trie.contains("баран"));
+        assertTrue(trie.remove("бал"));
+        assertTrue(trie.isPrefix("бал"));
+        assertTrue(trie.remove("war"));
+        assertFalse(trie.isPrefix("w"));
+        assertTrue(trie.size() == words.length - 2);
+
+        trie.add("барабан");
+        trie.add("war");
+        boolean containsAllWords = true;
+        for (String word : words) {
+            containsAllWords &= word.equals("бал") != trie.contains(word);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(trie.contains("war"));
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        trie.clear();
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.contains("war"));
+    }
+
+    @Test
+    public void testContains() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.contains("wall"));
+        assertTrue(trie.contains("warrior"));
+        assertFalse(trie.contains("word"));
+        assertFalse(trie.contains("wa"));
+        assertFalse(trie.contains("wa*"));
+    }
+
+    @Test
+    public void testIsPrefix() throws Exception {
+        assertTrue(trie.isPrefix("wa"));
+        assertFalse(trie.isPrefix("was"));
+    }
+
+    @Test
+    public void testLongestPrefixMatch() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.longestPrefixMatch("warriors", 0) == 7);
+        assertTrue(trie.longestPrefixMatch("warrio", 0) == 3);
+        assertTrue(trie.longestPrefixMatch("the wall", 4) == 4);
+        assertTrue(trie.longestPrefixMatch("the wall", 3) == 0);
+        assertTrue(trie.longestPrefixMatch("war", 3) == 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testLongestPrefixMatchOutOfBounds() throws Exception {
+        trie.longestPrefixMatch("war", 4);
+    }
+
+    @Test
+    public void testManyChildren() throws Exception {
+        Trie trie = new ArrayTrie();
+        for (char first = 'a'; first <= 'z'; first++) {
+            for (char second = 'z'; second >= 'a'; second--) {
+                trie.add("" + first + second);
+                trie.add("" + second + first + first);
+            }
+        }
+        boolean containsAllWords = true;
+        for (char first = 'a'; first <= 'z'; first++) {
+            for (char second = 'a'; second <= 'z'; second++) {
+                containsAllWords &= trie.contains("" + first + second);
+                containsAllWords &= trie.contains("" + second + first + first);
+            }
+        }
+        assertTrue(containsAllWords);
+        assertTrue(trie.size() == 26 * 26 * 2);
+    }
+
+    @Test
+    public void testManyWords() throws Exception {
+        Trie trie = new ArrayTrie();
+        Random random = new Random(42);
+        String[] randomWords = new String[20000];
+        for (int i = 0; i < randomWords.length; i++) {
+            randomWords[i] = Long.toString(random.nextLong() & Long.MAX_VALUE, 36);
+            trie.add(randomWords[i]);
+        }
+        for (int i = 0; i < randomWords.length; i += 2) {
+            trie.remove(randomWords[i]);
+        }
+        boolean containsAllWords = true;
+        for (int i = 0; i < randomWords.length; i++) {
+            containsAllWords &= trie.contains(randomWords[i]) == (i % 2 == 1);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(trie.size() == randomWords.length / 2);
+    }
+
+    @Test
+    public void testEqualsAndHashCode() throws Exception {
+        ArrayTrie forward = new ArrayTrie();
+        ArrayTrie backward = new ArrayTrie();
+        for (int i = 0; i < words.length; i++) {
+            forward.add(words[i]);
+            backward.add(words[words.length - 1 - i]);
+        }
+        assertTrue(forward.equals(backward));
+        assertTrue(forward.hashCode() == backward.hashCode());
+        assertTrue(new ArrayTrie(forward).hashCode() == forward.hashCode());
+    }
+
+    @Test
+    public void testSetAsEOW() {
+        ArrayTrie trie = new ArrayTrie();
+        trie.add("war");
+        int node = trie.transition(trie.transition(0, trie.codeOf('w')), trie.codeOf('a'));
+        new ArrayNode(trie, node).setAsEOW();
+        assertTrue(trie.contains("wa"));
+        assertTrue(trie.size() == 2);
+        new ArrayNode(trie, node).setAsEOW();
+        assertTrue(trie.size() == 2);
+    }
+
+    @Test
+    public void testToDAWG() {
+        Trie trie = new ArrayTrie();
+        for (String item : words){
+            trie.add(item);
+        }
+
+        DAWG dawg = trie.toDAWG();
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= dawg.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(dawg.size() == words.length);
+        assertFalse(dawg.contains("бара"));
+        assertTrue(dawg.isPrefix("бара"));
+    }
+
+    @Test
+    public void testToDAWGSharesBlocksOfNodesWithDifferentEOW() {
+        ArrayTrie trie = new ArrayTrie();
+        trie.add("a");
+        trie.add("ab");
+        trie.add("cb");
+        ArrayDAWG dawg = trie.toDAWG();
+        assertTrue(dawg.numberOfNodes() == 4);
+        assertTrue(dawg.contains("a") && dawg.contains("ab") && dawg.contains("cb"));
+        assertFalse(dawg.contains("c"));
+
+        trie.add("c");
+        dawg = trie.toDAWG();
+        assertTrue(dawg.numberOfNodes() == 4);
+        assertTrue(dawg.contains("c"));
+    }
+
+    @Test
+    public void testSerializationAndDeserialization() throws Exception {
+        ArrayTrie trie = new ArrayTrie();
+        for (String item : words){
+            trie.add(item);
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        trie.writeExternal(out);
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        ArrayTrie copy = new ArrayTrie();
+        copy.readExternal(in);
+        in.close();
+
+        assertTrue(copy.equals(trie));
+        copy.add("балкон");
+        assertTrue(copy.contains("балкон"));
+        assertFalse(copy.equals(trie));
+    }
+}
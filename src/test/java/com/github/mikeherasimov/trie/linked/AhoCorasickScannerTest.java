@@ -0,0 +1,137 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class AhoCorasickScannerTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+    private AhoCorasickScanner scanner;
+
+    @Before
+    public void setUp() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+        scanner = new AhoCorasickScanner(trie);
+    }
+
+    @Test
+    public void scan() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        for (String word : new String[]{"he", "she", "his", "hers"}) {
+            trie.add(word);
+        }
+        AhoCorasickScanner classic = new AhoCorasickScanner(trie);
+        MatchCollector collector = new MatchCollector(classic);
+        assertTrue(classic.scan("ushers", collector) == 3);
+        assertTrue(collector.matches.equals(Arrays.asList("1:4:she", "2:4:he", "2:6:hers")));
+        assertTrue(classic.numberOfTerms() == 4);
+        assertTrue(classic.termAt(0).equals("he") && classic.termAt(3).equals("she"));
+
+        collector = new MatchCollector(scanner);
+        assertTrue(scanner.scan("барабаны, баранка и балкон", collector) == 5);
+        assertTrue(collector.matches.equals(Arrays.asList("0:3:бар", "0:7:барабан",
+                "10:13:бар", "10:15:баран", "20:23:бал")));
+        assertTrue(scanner.scan("батог", new MatchCollector()) == 0);
+    }
+
+    @Test
+    public void scanMatchesBruteForce() throws Exception {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            text.append(random.nextInt(4) == 0 ? "бара" : words[random.nextInt(words.length)]);
+            if (random.nextBoolean()){
+                text.append(' ');
+            }
+        }
+        MatchCollector collector = new MatchCollector(scanner);
+        scanner.scan(text, collector);
+        assertTrue(collector.matches.equals(bruteForce(text.toString())));
+
+        MatchCollector readerCollector = new MatchCollector(scanner);
+        scanner.scan(new StringReader(text.toString()), readerCollector);
+        assertTrue(readerCollector.matches.equals(collector.matches));
+
+        List<String> sorted = new ArrayList<>(Arrays.asList(words));
+        Collections.sort(sorted);
+        AhoCorasickScanner fromDAWG = new AhoCorasickScanner(new DAWGBuilder().addAll(sorted).build());
+        MatchCollector dawgCollector = new MatchCollector(fromDAWG);
+        fromDAWG.scan(text, dawgCollector);
+        assertTrue(dawgCollector.matches.equals(collector.matches));
+        assertTrue(fromDAWG.numberOfStates() == scanner.numberOfStates());
+    }
+
+    @Test
+    public void termIds() throws Exception {
+        String[] sorted = words.clone();
+        Arrays.sort(sorted);
+        boolean inOrder = true;
+        for (int i = 0; i < sorted.length; i++) {
+            inOrder &= scanner.termAt(i).equals(sorted[i]);
+        }
+        assertTrue(inOrder);
+        assertTrue(scanner.numberOfTerms() == words.length);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void termAtOutOfBounds() throws Exception {
+        scanner.termAt(words.length);
+    }
+
+    @Test
+    public void emptyScanner() throws Exception {
+        AhoCorasickScanner empty = new AhoCorasickScanner(new LinkedTrie());
+        assertTrue(empty.scan("бар", new MatchCollector()) == 0);
+        assertTrue(empty.numberOfTerms() == 0);
+        assertTrue(empty.numberOfStates() == 1);
+    }
+
+    private static List<String> bruteForce(String text){
+        List<String> matches = new ArrayList<>();
+        String[] byLength = words.clone();
+        Arrays.sort(byLength, new Comparator<String>() {
+            @Override
+            public int compare(String first, String second) {
+                return second.length() - first.length();
+            }
+        });
+        for (int end = 1; end <= text.length(); end++) {
+            for (String word : byLength) {
+                if (end >= word.length() && text.startsWith(word, end - word.length())){
+                    matches.add((end - word.length()) + ":" + end + ":" + word);
+                }
+            }
+        }
+        return matches;
+    }
+
+    private static final class MatchCollector implements AhoCorasickScanner.MatchListener {
+        private final AhoCorasickScanner scanner;
+        private final List<String> matches = new ArrayList<>();
+
+        MatchCollector(){
+            this(null);
+        }
+
+        MatchCollector(AhoCorasickScanner scanner){
+            this.scanner = scanner;
+        }
+
+        @Override
+        public void match(long start, long end, int termId) {
+            matches.add(start + ":" + end + ":" + (scanner == null ? "" : scanner.termAt(termId)));
+        }
+    }
+}
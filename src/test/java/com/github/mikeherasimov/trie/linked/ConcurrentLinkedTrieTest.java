@@ -0,0 +1,156 @@
+package com.github.mikeherasimov.trie.linked;
+
+import com.github.mikeherasimov.trie.DAWG;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ConcurrentLinkedTrieTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+
+    ConcurrentLinkedTrie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new ConcurrentLinkedTrie();
+        trie.add("war");
+    }
+
+    @Test
+    public void testAdd() throws Exception {
+        trie.add("landscape");
+        trie.add("land");
+        trie.add("war");
+        assertTrue(trie.size() == 3);
+    }
+
+    @Test
+    public void testContains() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.contains("wall"));
+        assertTrue(trie.contains("warrior"));
+        assertFalse(trie.contains("word"));
+        assertFalse(trie.contains("wa"));
+        assertTrue(trie.isPrefix("wa"));
+        assertFalse(trie.isPrefix("was"));
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        trie.add("warrior");
+        assertTrue(trie.remove("war"));
+        assertFalse(trie.remove("war"));
+        assertFalse(trie.remove("wa"));
+        assertFalse(trie.contains("war"));
+        assertTrue(trie.isPrefix("war"));
+        assertTrue(trie.size() == 1);
+        trie.add("war");
+        assertTrue(trie.contains("war"));
+        assertTrue(trie.size() == 2);
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        trie.clear();
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.contains("war"));
+    }
+
+    @Test
+    public void testToDAWG() throws Exception {
+        for (String item : words){
+            trie.add(item);
+        }
+        DAWG dawg = trie.toDAWG();
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= dawg.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(dawg.size() == words.length + 1);
+    }
+
+    @Test
+    public void testConcurrentAdd() throws Exception {
+        final ConcurrentLinkedTrie trie = new ConcurrentLinkedTrie();
+        final int numberOfWords = 20000;
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            final int shift = t;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < numberOfWords; i++) {
+                        trie.add(Integer.toString((i + shift * 5000) % numberOfWords, 7));
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        boolean containsAllWords = true;
+        for (int i = 0; i < numberOfWords; i++) {
+            containsAllWords &= trie.contains(Integer.toString(i, 7));
+        }
+        assertTrue(containsAllWords);
+        assertTrue(trie.size() == numberOfWords);
+        assertTrue(trie.snapshot().size() == numberOfWords);
+    }
+
+    @Test
+    public void testConcurrentClear() throws Exception {
+        final ConcurrentLinkedTrie trie = new ConcurrentLinkedTrie();
+        final int numberOfWords = 20000;
+        final AtomicBoolean adding = new AtomicBoolean(true);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 3; t++) {
+            final int shift = t;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < numberOfWords; i++) {
+                        trie.add(Integer.toString((i + shift * 5000) % numberOfWords, 7));
+                        if (i % 3 == shift){
+                            trie.remove(Integer.toString(i, 7));
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        Thread clearing = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                while (adding.get()) {
+                    trie.clear();
+                    Thread.yield();
+                }
+            }
+        });
+        clearing.start();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        adding.set(false);
+        clearing.join();
+
+        assertTrue(trie.size() == trie.snapshot().size());
+        trie.add("war");
+        assertTrue(trie.size() == trie.snapshot().size());
+        trie.clear();
+        assertTrue(trie.isEmpty());
+        assertTrue(trie.snapshot().size() == 0);
+    }
+}
@@ -0,0 +1,62 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DAWGBuilderTest {
+    private static String[] words = {"бал", "балка", "балон", "бар", "барабан", "баран", "батон"};
+
+    @Test
+    public void build() throws Exception {
+        LinkedDAWG dawg = new DAWGBuilder().addAll(Arrays.asList(words)).build();
+
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= dawg.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(dawg.size() == words.length);
+        assertTrue(dawg.isPrefix("бара"));
+        assertFalse(dawg.contains("ба"));
+        assertFalse(dawg.contains("батоны"));
+        assertFalse(dawg.isPrefix("бат "));
+    }
+
+    @Test
+    public void duplicatesAreIgnored() throws Exception {
+        LinkedDAWG dawg = new DAWGBuilder().add("war").add("war").add("warrior").add("").build();
+        assertTrue(dawg.size() == 2);
+        assertTrue(dawg.contains("war"));
+        assertTrue(dawg.contains("warrior"));
+    }
+
+    @Test
+    public void sharesSuffixes() throws Exception {
+        LinkedDAWG dawg = new DAWGBuilder().add("cats").add("dogs").add("rats").build();
+        LinkedDAWGSerializationHelper helper = dawg.getTrie().getDAWGSerializationHelper();
+        helper.calculateValues();
+        // root, "c", "d", "r", shared "ats" and "og" + shared "s"
+        assertTrue(helper.getLetters().length == 9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unsortedInput() throws Exception {
+        new DAWGBuilder().add("war").add("wall");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void prefixAfterWord() throws Exception {
+        new DAWGBuilder().add("warrior").add("war");
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void addAfterBuild() throws Exception {
+        DAWGBuilder builder = new DAWGBuilder().add("war");
+        builder.build();
+        builder.add("warrior");
+    }
+}
@@ -0,0 +1,128 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+public class DictionarySegmenterTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+    private LinkedTrie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new LinkedTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void maximalMatch() throws Exception {
+        DictionarySegmenter segmenter = new DictionarySegmenter(trie, DictionarySegmenter.Mode.MAXIMAL_MATCH);
+        assertTrue(segment(segmenter, "барабанбалка барон").equals(Arrays.asList(
+                "барабан+", "балка+", " -", "бар+", "о-", "н-")));
+        assertTrue(segment(segmenter, "").isEmpty());
+    }
+
+    @Test
+    public void shortestPath() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        for (String word : new String[]{"abc", "ab", "cde"}) {
+            trie.add(word);
+        }
+        assertTrue(segment(new DictionarySegmenter(trie, DictionarySegmenter.Mode.MAXIMAL_MATCH), "abcde")
+                .equals(Arrays.asList("abc+", "d-", "e-")));
+        assertTrue(segment(new DictionarySegmenter(trie, DictionarySegmenter.Mode.SHORTEST_PATH), "abcde")
+                .equals(Arrays.asList("ab+", "cde+")));
+        assertTrue(segment(new DictionarySegmenter(trie, DictionarySegmenter.Mode.SHORTEST_PATH), "xabcx")
+                .equals(Arrays.asList("x-", "abc+", "x-")));
+    }
+
+    @Test
+    public void streamingMatchesWholeText() throws Exception {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 3000; i++) {
+            builder.append(random.nextInt(5) == 0 ? "ар" : words[random.nextInt(words.length)]);
+            if (random.nextInt(3) == 0){
+                builder.append(' ');
+            }
+        }
+        String text = builder.toString();
+
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < text.length(); ) {
+            int length = trie.longestPrefixMatch(text, i);
+            expected.add(length > 0 ? text.substring(i, i + length) + "+" : text.charAt(i) + "-");
+            i += Math.max(length, 1);
+        }
+        assertTrue(segment(new DictionarySegmenter(trie, DictionarySegmenter.Mode.MAXIMAL_MATCH, 8), text)
+                .equals(expected));
+        assertTrue(segment(new DictionarySegmenter(trie.toDAWG(), DictionarySegmenter.Mode.SHORTEST_PATH, 8), text)
+                .equals(shortestPath(text)));
+    }
+
+    @Test
+    public void longWordsAndSurrogates() throws Exception {
+        DictionarySegmenter segmenter = new DictionarySegmenter(trie, DictionarySegmenter.Mode.MAXIMAL_MATCH, 3);
+        assertTrue(segment(segmenter, "барабан").equals(Arrays.asList("бар+", "а-", "б-", "а-", "н-")));
+        segmenter = new DictionarySegmenter(trie, DictionarySegmenter.Mode.SHORTEST_PATH);
+        assertTrue(segment(segmenter, "бар😀").equals(Arrays.asList("бар+", "😀-")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveMaxWordLength() throws Exception {
+        new DictionarySegmenter(trie, DictionarySegmenter.Mode.MAXIMAL_MATCH, 0);
+    }
+
+    private static List<String> segment(DictionarySegmenter segmenter, final String text) throws Exception {
+        final List<String> tokens = new ArrayList<>();
+        final long[] covered = new long[1];
+        long count = segmenter.segment(new StringReader(text), new DictionarySegmenter.TokenListener() {
+            @Override
+            public void token(long start, long end, boolean inDictionary) {
+                assertTrue(start == covered[0] && end > start);
+                covered[0] = end;
+                tokens.add(text.substring((int) start, (int) end) + (inDictionary ? "+" : "-"));
+            }
+        });
+        assertTrue(count == tokens.size() && covered[0] == text.length());
+        return tokens;
+    }
+
+    /**
+     * Segments whole text at once by the fewest tokens, preferring longer last tokens on equal costs.
+     */
+    private List<String> shortestPath(String text){
+        int[] costs = new int[text.length() + 1];
+        int[] previous = new int[text.length() + 1];
+        boolean[] known = new boolean[text.length() + 1];
+        Arrays.fill(costs, Integer.MAX_VALUE);
+        costs[0] = 0;
+        for (int from = 0; from < text.length(); from++) {
+            for (int to = from + 1; to <= text.length(); to++) {
+                boolean word = trie.contains(text.substring(from, to));
+                if ((word || to == from + 1) && costs[from] + 1 < costs[to]){
+                    costs[to] = costs[from] + 1;
+                    previous[to] = from;
+                    known[to] = word;
+                }
+                if (!trie.isPrefix(text.substring(from, to)) && to > from + 1){
+                    break;
+                }
+            }
+        }
+        List<String> tokens = new ArrayList<>();
+        for (int to = text.length(); to > 0; to = previous[to]) {
+            tokens.add(0, text.substring(previous[to], to) + (known[to] ? "+" : "-"));
+        }
+        return tokens;
+    }
+}
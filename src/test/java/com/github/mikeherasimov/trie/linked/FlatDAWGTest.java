@@ -0,0 +1,142 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FlatDAWGTest {
+
+    private static LinkedDAWG dawg;
+    private static FlatDAWG flatDAWG;
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        for (String item : words){
+            trie.add(item);
+        }
+
+        dawg = trie.toDAWG();
+        flatDAWG = new FlatDAWG(dawg);
+    }
+
+    @Test
+    public void indexOf() throws Exception {
+        Iterator<String> preorder = dawg.wordsWithPrefix("");
+        for (int i = 0; i < flatDAWG.size(); i++) {
+            String word = preorder.next();
+            assertTrue(flatDAWG.indexOf(word) == i);
+            assertTrue(flatDAWG.wordAt(i).equals(word));
+        }
+        assertTrue(flatDAWG.indexOf("ба") == -1);
+        assertTrue(flatDAWG.indexOf("батоны") == -1);
+        assertTrue(flatDAWG.indexOf("") == -1);
+    }
+
+    @Test
+    public void indexOfSharedNodes() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        for (int i = 0; i < 3000; i++) {
+            trie.add(Integer.toString(i * 7, 5));
+        }
+        FlatDAWG numbers = new FlatDAWG(trie.toDAWG());
+        boolean[] used = new boolean[numbers.size()];
+        boolean indexesAreValid = true;
+        for (int i = 0; i < 3000; i++) {
+            String word = Integer.toString(i * 7, 5);
+            int index = numbers.indexOf(word);
+            indexesAreValid &= index >= 0 && !used[index] && numbers.wordAt(index).equals(word);
+            used[index] = true;
+        }
+        assertTrue(indexesAreValid);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void wordAtOutOfBounds() throws Exception {
+        flatDAWG.wordAt(flatDAWG.size());
+    }
+
+    @Test
+    public void countWithPrefix() throws Exception {
+        assertTrue(flatDAWG.countWithPrefix("") == words.length);
+        assertTrue(flatDAWG.countWithPrefix("бал") == 3);
+        assertTrue(flatDAWG.countWithPrefix("бара") == 2);
+        assertTrue(flatDAWG.countWithPrefix("батон") == 1);
+        assertTrue(flatDAWG.countWithPrefix("бак") == 0);
+    }
+
+    @Test
+    public void contains() throws Exception {
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= flatDAWG.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertFalse(flatDAWG.contains("ба"));
+        assertFalse(flatDAWG.contains("батоны"));
+        assertTrue(flatDAWG.size() == words.length);
+    }
+
+    @Test
+    public void isPrefix() throws Exception {
+        assertTrue(flatDAWG.isPrefix("бато"));
+        assertTrue(flatDAWG.isPrefix(""));
+        assertFalse(flatDAWG.isPrefix("бабушка"));
+    }
+
+    @Test
+    public void longestPrefixMatch() throws Exception {
+        assertTrue(flatDAWG.longestPrefixMatch("барабаны", 0) == 7);
+        assertTrue(flatDAWG.longestPrefixMatch("барон", 0) == 3);
+        assertTrue(flatDAWG.longestPrefixMatch("на балконе", 3) == 3);
+        assertTrue(flatDAWG.longestPrefixMatch("батог", 0) == 0);
+        assertTrue(dawg.longestPrefixMatch("на балконе", 3) == 3);
+    }
+
+    @Test
+    public void readsLinkedDAWG() throws Exception {
+        FlatDAWG copy = new FlatDAWG();
+        copy(dawg, copy);
+
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= copy.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(copy.numberOfNodes() == flatDAWG.numberOfNodes());
+    }
+
+    @Test
+    public void writesLinkedDAWG() throws Exception {
+        LinkedDAWG copy = new LinkedDAWG();
+        copy(flatDAWG, copy);
+
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= copy.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(copy.size() == words.length);
+    }
+
+    private static void copy(Externalizable from, Externalizable to) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        from.writeExternal(out);
+        out.close();
+
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        to.readExternal(in);
+        in.close();
+    }
+}
@@ -0,0 +1,90 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IntValueTrieTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+    private IntValueTrie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new IntValueTrie(-1);
+        for (int i = 0; i < words.length; i++) {
+            trie.put(words[i], i * 10);
+        }
+    }
+
+    @Test
+    public void putAndGet() throws Exception {
+        boolean containsAllValues = true;
+        for (int i = 0; i < words.length; i++) {
+            containsAllValues &= trie.get(words[i]) == i * 10;
+        }
+        assertTrue(containsAllValues);
+        assertTrue(trie.size() == words.length);
+        assertTrue(trie.get("ба") == -1);
+        assertTrue(trie.getOrDefault("батоны", 7) == 7);
+        assertTrue(trie.put("бал", 1) == 40);
+        assertTrue(trie.get("бал") == 1);
+        assertTrue(trie.put("ба", 2) == -1);
+        assertTrue(trie.size() == words.length + 1);
+        assertTrue(trie.isPrefix("бара"));
+        assertFalse(trie.containsKey("бара"));
+    }
+
+    @Test
+    public void merge() throws Exception {
+        IntValueTrie.Merger sum = new IntValueTrie.Merger() {
+            @Override
+            public int merge(int oldValue, int value) {
+                return oldValue + value;
+            }
+        };
+        assertTrue(trie.merge("баран", 5, sum) == 25);
+        assertTrue(trie.merge("барон", 5, sum) == 5);
+        assertTrue(trie.get("барон") == 5);
+    }
+
+    @Test
+    public void forEachWithPrefix() throws Exception {
+        final List<String> entries = new ArrayList<>();
+        IntValueTrie.EntryVisitor visitor = new IntValueTrie.EntryVisitor() {
+            @Override
+            public boolean visit(char[] buffer, int length, int value) {
+                entries.add(new String(buffer, 0, length) + "=" + value);
+                return true;
+            }
+        };
+        assertTrue(trie.forEachWithPrefix("бар", visitor) == 3);
+        assertTrue(entries.equals(Arrays.asList("бар=0", "барабан=10", "баран=20")));
+        assertTrue(trie.forEachWithPrefix("бак", visitor) == 0);
+        assertTrue(trie.forEachWithPrefix("", visitor) == words.length);
+    }
+
+    @Test
+    public void freeze() throws Exception {
+        IntValueDAWG dawg = trie.freeze();
+        boolean containsAllValues = true;
+        for (int i = 0; i < words.length; i++) {
+            containsAllValues &= dawg.get(words[i]) == i * 10;
+        }
+        assertTrue(containsAllValues);
+        assertTrue(dawg.size() == words.length);
+        assertTrue(dawg.get("ба") == -1);
+        assertTrue(dawg.getOrDefault("батоны", 7) == 7);
+        assertTrue(dawg.getDAWG().numberOfNodes() < 20);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void emptyWord() throws Exception {
+        trie.put("", 1);
+    }
+}
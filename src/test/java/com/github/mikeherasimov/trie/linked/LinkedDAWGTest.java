@@ -1,13 +1,19 @@
 package com.github.mikeherasimov.trie.linked;
 
+import org.junit.AfterClass;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Iterator;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 
@@ -15,6 +21,7 @@ public class LinkedDAWGTest {
 
     private static LinkedDAWG dawg;
     private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+    private static File file;
 
     @BeforeClass
     public static void setUp() throws Exception {
@@ -24,6 +31,12 @@ public class LinkedDAWGTest {
         }
 
         dawg = trie.toDAWG();
+        file = File.createTempFile("testLinkedDAWG", ".bin");
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        file.delete();
     }
 
     @Test
@@ -35,9 +48,77 @@ public class LinkedDAWGTest {
         assertTrue(containsAllWords);
     }
 
+    @Test
+    public void wordsWithPrefix() throws Exception {
+        Iterator<String> iterator = dawg.wordsWithPrefix("бара");
+        assertTrue(iterator.next().equals("барабан"));
+        assertTrue(iterator.next().equals("баран"));
+        assertFalse(iterator.hasNext());
+        iterator = dawg.wordsWithPrefix("бал", 2);
+        assertTrue(iterator.next().equals("бал"));
+        assertTrue(iterator.next().equals("балон"));
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void fuzzyMatches() throws Exception {
+        assertTrue(dawg.fuzzyMatches("барон", 1).equals(Arrays.asList("баран", "балон", "батон")));
+    }
+
+    @Test
+    public void containsSlices() throws Exception {
+        char[] chars = "батоны".toCharArray();
+        byte[] bytes = "батоны".getBytes("UTF-8");
+        assertTrue(dawg.contains(chars, 0, 5));
+        assertTrue(dawg.isPrefix(chars, 0, 4));
+        assertFalse(dawg.contains(chars, 0, 6));
+        assertTrue(dawg.contains(bytes, 0, 10));
+        assertTrue(dawg.isPrefix(ByteBuffer.wrap(bytes), 0, 4));
+        assertFalse(dawg.contains(ByteBuffer.wrap(bytes), 0, 12));
+        assertTrue(dawg.contains(new StringBuilder("батон")));
+    }
+
+    @Test
+    public void containsAll() throws Exception {
+        String[] batch = {"батон", "бара", "бал", "балкон", "барабан", "ба"};
+        boolean[] out = new boolean[batch.length];
+        dawg.containsAll(batch, out);
+        assertTrue(Arrays.equals(out, new boolean[]{true, false, true, false, true, false}));
+        dawg.isPrefixAll(batch, out);
+        assertTrue(Arrays.equals(out, new boolean[]{true, true, true, false, true, true}));
+    }
+
+    @Test
+    public void containsAllLargeBatch() throws Exception {
+        String[] batch = new String[words.length * 8];
+        for (int i = 0; i < words.length; i++) {
+            batch[i * 8] = words[i];
+            batch[i * 8 + 1] = words[i];
+            batch[i * 8 + 2] = words[i] + "а";
+            batch[i * 8 + 3] = words[i].substring(1);
+            for (int j = 4; j < 8; j++) {
+                batch[i * 8 + j] = words[i].substring(0, Math.min(j - 2, words[i].length()));
+            }
+        }
+        boolean[] out = new boolean[batch.length];
+        boolean[] prefixOut = new boolean[batch.length];
+        dawg.containsAll(batch, out);
+        dawg.isPrefixAll(batch, prefixOut);
+        boolean sameResults = true;
+        for (int i = 0; i < batch.length; i++) {
+            sameResults &= out[i] == dawg.contains(batch[i]) && prefixOut[i] == dawg.isPrefix(batch[i]);
+        }
+        assertTrue(sameResults);
+    }
+
+    @Test
+    public void wordsMatching() throws Exception {
+        assertTrue(dawg.wordsMatching("*[^л]он").equals(Arrays.asList("батон")));
+    }
+
     @Test
     public void writeExternal() throws Exception {
-        FileOutputStream fos = new FileOutputStream("testLinkedDAWG.txt");
+        FileOutputStream fos = new FileOutputStream(file);
         ObjectOutputStream out = new ObjectOutputStream(fos);
         dawg.writeExternal(out);
         out.flush();
@@ -47,7 +128,8 @@ public class LinkedDAWGTest {
 
     @Test
     public void readExternal() throws Exception {
-        FileInputStream fis = new FileInputStream("testLinkedDAWG.txt");
+        writeExternal();
+        FileInputStream fis = new FileInputStream(file);
         ObjectInputStream in = new ObjectInputStream(fis);
         LinkedDAWG linkedDAWG = new LinkedDAWG();
         linkedDAWG.readExternal(in);
@@ -2,14 +2,27 @@ package com.github.mikeherasimov.trie.linked;
 
 import com.github.mikeherasimov.trie.DAWG;
 import com.github.mikeherasimov.trie.Trie;
+import com.github.mikeherasimov.trie.WordVisitor;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
@@ -37,6 +50,186 @@ public class LinkedTrieTest {
         trie.add("wa*");
     }
 
+    @Test
+    public void testAddAll() throws Exception {
+        String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+        LinkedTrie linkedTrie = (LinkedTrie) trie;
+        linkedTrie.addAll(Arrays.asList(words));
+
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= linkedTrie.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(linkedTrie.size() == words.length + 1);
+    }
+
+    @Test
+    public void testAddAllSorted() throws Exception {
+        String[] words = {"бал", "балка", "балон", "бар", "барабан", "баран", "бат", "батон", "батон"};
+        LinkedTrie sorted = new LinkedTrie();
+        sorted.addAllSorted(Arrays.asList(words));
+
+        LinkedTrie expected = new LinkedTrie();
+        for (String item : words){
+            expected.add(item);
+        }
+        assertTrue(sorted.size() == words.length - 1);
+        assertTrue(sorted.equals(expected));
+    }
+
+    @Test
+    public void testAddAllSortedWithUnsortedInput() throws Exception {
+        String[] words = {"балон", "бал", "барабан", "балка", "", "бар", "батон", "баран"};
+        LinkedTrie linkedTrie = (LinkedTrie) trie;
+        linkedTrie.addAllSorted(Arrays.asList(words));
+
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= item.isEmpty() || linkedTrie.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(linkedTrie.contains("war"));
+        assertTrue(linkedTrie.size() == words.length);
+        assertFalse(linkedTrie.contains("ба"));
+    }
+
+    @Test
+    public void testWordsWithPrefix() throws Exception {
+        LinkedTrie linkedTrie = new LinkedTrie();
+        linkedTrie.addAllSorted(Arrays.asList("бал", "балка", "балон", "бар", "барабан", "баран", "батон"));
+
+        assertTrue(toList(linkedTrie.wordsWithPrefix("бал")).equals(Arrays.asList("бал", "балка", "балон")));
+        assertTrue(toList(linkedTrie.wordsWithPrefix("бара")).equals(Arrays.asList("барабан", "баран")));
+        assertTrue(toList(linkedTrie.wordsWithPrefix("")).size() == linkedTrie.size());
+        assertTrue(toList(linkedTrie.wordsWithPrefix("ба", 4)).equals(Arrays.asList("бал", "балка", "балон", "бар")));
+        assertFalse(linkedTrie.wordsWithPrefix("бат", 0).hasNext());
+        assertFalse(linkedTrie.wordsWithPrefix("батоны").hasNext());
+    }
+
+    @Test
+    public void testForEachWithPrefix() throws Exception {
+        LinkedTrie linkedTrie = new LinkedTrie();
+        linkedTrie.addAllSorted(Arrays.asList("бал", "балка", "балон", "бар", "барабан", "баран", "батон"));
+        final List<String> visited = new ArrayList<>();
+        WordVisitor visitor = new WordVisitor() {
+            @Override
+            public boolean visit(char[] buffer, int length) {
+                visited.add(new String(buffer, 0, length));
+                return !visited.get(visited.size() - 1).equals("барабан");
+            }
+        };
+
+        assertTrue(linkedTrie.forEachWithPrefix("бар", Integer.MAX_VALUE, visitor) == 2);
+        assertTrue(visited.equals(Arrays.asList("бар", "барабан")));
+        visited.clear();
+        assertTrue(linkedTrie.forEachWithPrefix("б", 3, visitor) == 3);
+        assertTrue(visited.equals(Arrays.asList("бал", "балка", "балон")));
+    }
+
+    @Test
+    public void testFuzzyMatches() throws Exception {
+        LinkedTrie linkedTrie = new LinkedTrie();
+        linkedTrie.addAllSorted(Arrays.asList("бал", "балка", "балон", "бар", "барабан", "баран", "батон"));
+
+        assertTrue(linkedTrie.fuzzyMatches("бал", 0).equals(Collections.singletonList("бал")));
+        assertTrue(linkedTrie.fuzzyMatches("бат", 1).equals(Arrays.asList("бал", "бар")));
+        assertTrue(linkedTrie.fuzzyMatches("балн", 1).equals(Arrays.asList("бал", "балон")));
+        assertTrue(linkedTrie.fuzzyMatches("барон", 2).equals(Arrays.asList("балон", "бар", "баран", "батон")));
+        assertTrue(linkedTrie.fuzzyMatches("", 3).equals(Arrays.asList("бал", "бар")));
+        assertTrue(linkedTrie.fuzzyMatches("война", 2).isEmpty());
+    }
+
+    @Test
+    public void testContainsCharSequence() throws Exception {
+        trie.add("warrior");
+        assertTrue(trie.contains(new StringBuilder("war")));
+        assertTrue(trie.contains(CharBuffer.wrap("a warrior", 2, 9)));
+        assertFalse(trie.contains(new StringBuilder("warr")));
+        assertTrue(trie.isPrefix(CharBuffer.wrap("warr")));
+    }
+
+    @Test
+    public void testContainsCharArray() throws Exception {
+        LinkedTrie linkedTrie = (LinkedTrie) trie;
+        char[] chars = "a war".toCharArray();
+        assertTrue(linkedTrie.contains(chars, 2, 3));
+        assertFalse(linkedTrie.contains(chars, 2, 2));
+        assertTrue(linkedTrie.isPrefix(chars, 2, 2));
+        assertFalse(linkedTrie.isPrefix(chars, 0, 3));
+        assertTrue(linkedTrie.isPrefix(chars, 5, 0));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testContainsCharArrayOutOfBounds() throws Exception {
+        ((LinkedTrie) trie).contains("war".toCharArray(), 1, 3);
+    }
+
+    @Test
+    public void testContainsUTF8() throws Exception {
+        LinkedTrie linkedTrie = (LinkedTrie) trie;
+        String[] words = {"бар", "балка", "naïve", "\uD83D\uDE00smile", "中文"};
+        for (String word : words) {
+            linkedTrie.add(word);
+        }
+        boolean containsAllWords = true;
+        for (String word : words) {
+            byte[] bytes = ("  " + word + " ").getBytes("UTF-8");
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes);
+            int length = bytes.length - 3;
+            containsAllWords &= linkedTrie.contains(bytes, 2, length) && linkedTrie.contains(buffer, 2, length);
+            int firstLength = word.substring(0, word.offsetByCodePoints(0, 1)).getBytes("UTF-8").length;
+            containsAllWords &= !linkedTrie.contains(bytes, 2, length - 1) && linkedTrie.isPrefix(buffer, 2, firstLength);
+        }
+        assertTrue(containsAllWords);
+
+        byte[] bytes = "балка".getBytes("UTF-8");
+        assertFalse(linkedTrie.isPrefix(bytes, 0, 3));
+        assertTrue(linkedTrie.isPrefix(bytes, 0, 4));
+        assertFalse(linkedTrie.contains(new byte[]{(byte) 0xC0, (byte) 0xB0}, 0, 2));
+        assertFalse(linkedTrie.isPrefix(new byte[]{(byte) 0xED, (byte) 0xA0, (byte) 0xBD}, 0, 3));
+        assertFalse(linkedTrie.isPrefix(new byte[]{(byte) 0xD0, (byte) 0x20}, 0, 2));
+    }
+
+    @Test
+    public void testContainsAll() throws Exception {
+        LinkedTrie linkedTrie = (LinkedTrie) trie;
+        linkedTrie.add("warrior");
+        linkedTrie.add("wall");
+        CharSequence[] batch = {"warrior", "wa", "wall", "war", "wax", "", "warrior", "warriors", new StringBuilder("wall")};
+        boolean[] out = new boolean[batch.length];
+        linkedTrie.containsAll(batch, out);
+        assertTrue(Arrays.equals(out, new boolean[]{true, false, true, true, false, false, true, false, true}));
+        linkedTrie.isPrefixAll(batch, out);
+        assertTrue(Arrays.equals(out, new boolean[]{true, true, true, true, false, true, true, false, true}));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testContainsAllWithShortResult() throws Exception {
+        ((LinkedTrie) trie).containsAll(new CharSequence[]{"war", "wall"}, new boolean[1]);
+    }
+
+    @Test
+    public void testWordsMatching() throws Exception {
+        LinkedTrie linkedTrie = new LinkedTrie();
+        linkedTrie.addAllSorted(Arrays.asList("бал", "балка", "балон", "бар", "барабан", "баран", "батон"));
+
+        assertTrue(linkedTrie.wordsMatching("ба?").equals(Arrays.asList("бал", "бар")));
+        assertTrue(linkedTrie.wordsMatching("ба*н").equals(Arrays.asList("балон", "барабан", "баран", "батон")));
+        assertTrue(linkedTrie.wordsMatching("ба[лт]о?").equals(Arrays.asList("балон", "батон")));
+        assertTrue(linkedTrie.wordsMatching("*").size() == linkedTrie.size());
+        assertTrue(linkedTrie.wordsMatching("б?").isEmpty());
+    }
+
+    private static List<String> toList(Iterator<String> words){
+        List<String> list = new ArrayList<>();
+        while (words.hasNext()){
+            list.add(words.next());
+        }
+        return list;
+    }
+
     @Test
     public void testIsEmpty() throws Exception {
         assertFalse(trie.isEmpty());
@@ -70,6 +263,22 @@ public class LinkedTrieTest {
         assertFalse(trie.isPrefix("was"));
     }
 
+    @Test
+    public void testLongestPrefixMatch() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        assertTrue(trie.longestPrefixMatch("warriors", 0) == 7);
+        assertTrue(trie.longestPrefixMatch("warrio", 0) == 3);
+        assertTrue(trie.longestPrefixMatch("the wall", 4) == 4);
+        assertTrue(trie.longestPrefixMatch("the wall", 3) == 0);
+        assertTrue(trie.longestPrefixMatch("war", 3) == 0);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testLongestPrefixMatchOutOfBounds() throws Exception {
+        trie.longestPrefixMatch("war", 4);
+    }
+
     @Test
     public void testSize() throws Exception {
         trie.add("war");
@@ -81,6 +290,30 @@ public class LinkedTrieTest {
         assertTrue(trie.size() == 0);
     }
 
+    @Test
+    public void testRemove() throws Exception {
+        trie.add("warrior");
+        trie.add("wall");
+        trie.add("ward");
+        assertTrue(trie.remove("warrior"));
+        assertFalse(trie.remove("warrior"));
+        assertFalse(trie.remove("wa"));
+        assertFalse(trie.remove(""));
+        assertTrue(trie.size() == 3);
+        assertFalse(trie.isPrefix("warr"));
+        assertTrue(trie.contains("war"));
+        assertTrue(trie.remove("war"));
+        assertTrue(trie.isPrefix("war"));
+        assertTrue(trie.contains("ward"));
+        assertTrue(trie.remove("wall"));
+        assertFalse(trie.isPrefix("wal"));
+        assertTrue(trie.remove("ward"));
+        assertTrue(trie.isEmpty());
+        assertFalse(trie.isPrefix("w"));
+        trie.add("war");
+        assertTrue(trie.contains("war"));
+    }
+
     @Test
     public void testToDAWG() {
         Trie trie = new LinkedTrie();
@@ -97,6 +330,41 @@ public class LinkedTrieTest {
         assertTrue(containsAllWords);
     }
 
+    @Test
+    public void testToDAWGBottomUp() {
+        LinkedTrie trie = new LinkedTrie();
+        String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон", "вал", "валка", "вата"};
+        for (String item : words){
+            trie.add(item);
+        }
+
+        LinkedDAWG bottomUp = trie.toDAWG();
+        LinkedDAWG byLeafComparison = trie.toDAWGByLeafComparison();
+        assertTrue(numberOfDistinctNodes(bottomUp) <= numberOfDistinctNodes(byLeafComparison));
+        assertTrue(bottomUp.getTrie().equals(trie));
+        assertFalse(bottomUp.contains("ба"));
+    }
+
+    @Test
+    public void testToDAWGInParallel() {
+        LinkedTrie trie = new LinkedTrie();
+        for (int i = 0; i < 5000; i++) {
+            trie.add(Integer.toString(i * 7, 5));
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        LinkedDAWG parallel = trie.toDAWG(pool);
+        pool.shutdown();
+        assertTrue(numberOfDistinctNodes(parallel) == numberOfDistinctNodes(trie.toDAWG()));
+        assertTrue(parallel.getTrie().equals(trie));
+    }
+
+    private static int numberOfDistinctNodes(LinkedDAWG dawg){
+        LinkedDAWGSerializationHelper helper = dawg.getTrie().getDAWGSerializationHelper();
+        helper.calculateValues();
+        return helper.getNumberOfDistinctNodes();
+    }
+
     @Test
     public void testSerializationAndDeserialization() throws Exception {
         LinkedTrie trie = new LinkedTrie();
@@ -105,19 +373,21 @@ public class LinkedTrieTest {
             trie.add(item);
         }
 
-        FileOutputStream fos = new FileOutputStream("testLinked.txt");
+        File file = File.createTempFile("testLinked", ".bin");
+        FileOutputStream fos = new FileOutputStream(file);
         ObjectOutputStream out = new ObjectOutputStream(fos);
         trie.writeExternal(out);
         out.flush();
         out.close();
         fos.close();
 
-        FileInputStream fis = new FileInputStream("testLinked.txt");
+        FileInputStream fis = new FileInputStream(file);
         ObjectInputStream in = new ObjectInputStream(fis);
         LinkedTrie copy = new LinkedTrie();
         copy.readExternal(in);
         in.close();
         fis.close();
+        file.delete();
 
         boolean containsAllWords = true;
         for (String item : words){
@@ -127,5 +397,66 @@ public class LinkedTrieTest {
         assertTrue(copy.equals(trie));
     }
 
+    @Test
+    public void testSerializationOfSpecialCharacters() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        String[] words = {"wa*", "wa)", "*)", ")", "\u0000", "\uFFFF"};
+        for (String item : words){
+            trie.add(item);
+        }
+
+        LinkedTrie copy = new LinkedTrie();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(trie)));
+        copy.readExternal(in);
+        in.close();
+
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= copy.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertTrue(copy.equals(trie));
+    }
+
+    @Test(expected = StreamCorruptedException.class)
+    public void testCorruptedSerialization() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        trie.add("warrior");
+        byte[] bytes = serialize(trie);
+        bytes[bytes.length - 8] ^= 1;
 
-}
\ No newline at end of file
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        new LinkedTrie().readExternal(in);
+    }
+
+    @Test
+    public void testDeepTrie() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        StringBuilder longWord = new StringBuilder();
+        for (char letter = 1; letter < 60000; letter++) {
+            trie.add(String.valueOf(letter));
+            longWord.append('a');
+        }
+        trie.add(longWord.toString());
+
+        LinkedTrie copy = new LinkedTrie();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialize(trie)));
+        copy.readExternal(in);
+        in.close();
+        assertTrue(copy.equals(trie));
+        assertTrue(new LinkedTrie(trie).equals(trie));
+
+        LinkedDAWG dawg = trie.toDAWG();
+        assertTrue(dawg.contains(longWord.toString()));
+        assertTrue(dawg.contains("\u1234"));
+        assertTrue(new FlatDAWG(dawg).contains(longWord.toString()));
+    }
+
+    private static byte[] serialize(LinkedTrie trie) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        trie.writeExternal(out);
+        out.close();
+        return bytes.toByteArray();
+    }
+}
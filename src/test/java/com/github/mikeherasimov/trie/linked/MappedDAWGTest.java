@@ -0,0 +1,66 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class MappedDAWGTest {
+
+    private static File file;
+    private static MappedDAWG dawg;
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        LinkedTrie trie = new LinkedTrie();
+        for (String item : words){
+            trie.add(item);
+        }
+
+        file = File.createTempFile("testMappedDAWG", ".dawg");
+        MappedDAWG.write(trie.toDAWG(), file);
+        dawg = MappedDAWG.open(file);
+    }
+
+    @AfterClass
+    public static void tearDown() throws Exception {
+        file.delete();
+    }
+
+    @Test
+    public void contains() throws Exception {
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= dawg.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertFalse(dawg.contains("бара"));
+        assertTrue(dawg.size() == words.length);
+    }
+
+    @Test
+    public void isPrefix() throws Exception {
+        assertTrue(dawg.isPrefix("бара"));
+        assertFalse(dawg.isPrefix("бабушка"));
+    }
+
+    @Test(expected = IOException.class)
+    public void openInvalidFile() throws Exception {
+        File invalid = File.createTempFile("testMappedDAWG", ".txt");
+        try {
+            FileOutputStream out = new FileOutputStream(invalid);
+            out.write(new byte[32]);
+            out.close();
+            MappedDAWG.open(invalid);
+        } finally {
+            invalid.delete();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class OffHeapDAWGTest {
+
+    private static LinkedTrie trie;
+    private static OffHeapDAWG dawg;
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+
+    @BeforeClass
+    public static void setUp() throws Exception {
+        trie = new LinkedTrie();
+        for (String item : words){
+            trie.add(item);
+        }
+
+        dawg = new OffHeapDAWG(trie);
+    }
+
+    @Test
+    public void contains() throws Exception {
+        boolean containsAllWords = true;
+        for (String item : words){
+            containsAllWords &= dawg.contains(item);
+        }
+        assertTrue(containsAllWords);
+        assertFalse(dawg.contains("бара"));
+        assertTrue(dawg.size() == words.length);
+    }
+
+    @Test
+    public void isPrefix() throws Exception {
+        assertTrue(dawg.isPrefix("бара"));
+        assertFalse(dawg.isPrefix("бабушка"));
+    }
+
+    @Test
+    public void numberOfNodes() throws Exception {
+        assertTrue(dawg.numberOfNodes() == new FlatDAWG(trie.toDAWG()).numberOfNodes());
+    }
+}
@@ -0,0 +1,197 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TrieStatsTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+    private LinkedTrie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new LinkedTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+    }
+
+    @Test
+    public void trieStats() throws Exception {
+        Set<String> prefixes = prefixes();
+        TrieStats stats = trie.stats();
+        assertTrue(stats.getNumberOfWords() == words.length);
+        assertTrue(stats.getNumberOfNodes() == prefixes.size());
+        assertTrue(stats.getNumberOfDistinctNodes() == prefixes.size());
+        assertTrue(stats.getCompressionRatio() == 1);
+        assertTrue(stats.getEstimatedBytes() == (prefixes.size() + 1L) * TrieStats.NODE_BYTES);
+
+        long[] depths = new long[stats.getMaxDepth() + 1];
+        long[] fanouts = new long[stats.getFanoutHistogram().length];
+        long scanLength = 0;
+        prefixes.add("");
+        for (String prefix : prefixes) {
+            if (!prefix.isEmpty()){
+                depths[prefix.length()]++;
+            }
+            Set<Character> letters = new HashSet<>();
+            for (String other : prefixes) {
+                if (other.length() == prefix.length() + 1 && other.startsWith(prefix)){
+                    letters.add(other.charAt(prefix.length()));
+                }
+            }
+            fanouts[letters.size()]++;
+            scanLength += letters.size() * (letters.size() + 1) / 2;
+        }
+        assertTrue(Arrays.equals(stats.getDepthHistogram(), depths));
+        assertTrue(Arrays.equals(stats.getFanoutHistogram(), fanouts));
+        assertTrue(stats.getMaxDepth() == "барабан".length());
+        assertTrue(stats.getAverageBrotherScanLength() == (double) scanLength / (prefixes.size() - 1));
+    }
+
+    @Test
+    public void dawgStats() throws Exception {
+        LinkedDAWG dawg = trie.toDAWG();
+        TrieStats stats = dawg.stats();
+        LinkedDAWGSerializationHelper helper = dawg.getTrie().getDAWGSerializationHelper();
+        helper.calculateValues();
+        assertTrue(stats.getNumberOfNodes() == prefixes().size());
+        assertTrue(stats.getNumberOfDistinctNodes() == helper.getNumberOfDistinctNodes() - 1);
+        assertTrue(stats.getCompressionRatio() > 1);
+        assertTrue(Arrays.equals(stats.getDepthHistogram(), trie.stats().getDepthHistogram()));
+
+        Map<String, Number> map = stats.toMap();
+        assertTrue(map.get("nodes").longValue() == stats.getNumberOfNodes());
+        assertTrue(map.get("distinctNodes").intValue() == stats.getNumberOfDistinctNodes());
+        assertTrue(map.get("depth.7").longValue() == 1);
+        assertFalse(map.containsKey("depth.0"));
+    }
+
+    @Test
+    public void emptyTrieStats() throws Exception {
+        TrieStats stats = new LinkedTrie().stats();
+        assertTrue(stats.getNumberOfNodes() == 0);
+        assertTrue(stats.getNumberOfDistinctNodes() == 0);
+        assertTrue(stats.getMaxDepth() == 0);
+        assertTrue(stats.getAverageBrotherScanLength() == 0);
+        assertTrue(stats.getCompressionRatio() == 1);
+    }
+
+    @Test
+    public void queryCounters() throws Exception {
+        assertTrue(trie.getQueryCounters() == null);
+        QueryCounters counters = trie.enableQueryCounters();
+        assertTrue(trie.enableQueryCounters() == counters);
+
+        assertTrue(trie.contains("бал"));
+        assertFalse(trie.contains("бара"));
+        assertTrue(trie.isPrefix("бара"));
+        assertFalse(trie.isPrefix("бас"));
+        assertTrue(counters.getQueries() == 4);
+        assertTrue(counters.getHits() == 2);
+        assertTrue(counters.getMisses() == 2);
+
+        LinkedTrie small = new LinkedTrie();
+        small.add("ab");
+        small.add("ac");
+        QueryCounters smallCounters = small.enableQueryCounters();
+        small.contains("ac");
+        small.contains("b");
+        assertTrue(smallCounters.getNodesVisited() == 4);
+        assertTrue(smallCounters.getAverageNodesVisited() == 2);
+
+        Map<String, Number> map = counters.toMap();
+        assertTrue(map.get("queries").longValue() == 4 && map.get("misses").longValue() == 2);
+
+        trie.disableQueryCounters();
+        trie.contains("бал");
+        assertTrue(trie.getQueryCounters() == null);
+        assertTrue(counters.getQueries() == 4);
+        counters.reset();
+        assertTrue(counters.getQueries() == 0 && counters.getNodesVisited() == 0);
+    }
+
+    @Test
+    public void queryCountersCountAllLookups() throws Exception {
+        LinkedTrie small = new LinkedTrie();
+        small.add("ab");
+        small.add("ac");
+        QueryCounters counters = small.enableQueryCounters();
+
+        assertTrue(small.contains("ac".toCharArray(), 0, 2));
+        assertTrue(small.isPrefix("a".getBytes("UTF-8"), 0, 1));
+        assertFalse(small.contains(ByteBuffer.wrap("b".getBytes("UTF-8")), 0, 1));
+        assertTrue(counters.getQueries() == 3 && counters.getHits() == 2);
+        assertTrue(counters.getNodesVisited() == 5);
+
+        boolean[] out = new boolean[3];
+        small.containsAll(new CharSequence[]{"ab", "a", "b"}, out);
+        assertTrue(out[0] && !out[1] && !out[2]);
+        small.isPrefixAll(new CharSequence[]{"a"}, out);
+        assertTrue(out[0]);
+        assertTrue(counters.getQueries() == 7 && counters.getHits() == 4);
+
+        assertTrue(small.longestPrefixMatch("acb", 0) == 2);
+        assertTrue(small.longestPrefixMatch("b", 0) == 0);
+        assertTrue(counters.getQueries() == 9 && counters.getHits() == 5);
+
+        LinkedDAWG dawg = small.toDAWG();
+        QueryCounters dawgCounters = dawg.enableQueryCounters();
+        dawg.contains("ab".toCharArray(), 0, 2);
+        assertTrue(dawgCounters.getQueries() == 1 && dawgCounters.getHits() == 1);
+    }
+
+    @Test
+    public void queryCountersEnabledConcurrently() throws Exception {
+        for (int round = 0; round < 100; round++) {
+            final LinkedTrie shared = new LinkedTrie();
+            final CountDownLatch start = new CountDownLatch(1);
+            final QueryCounters[] enabled = new QueryCounters[4];
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < enabled.length; t++) {
+                final int index = t;
+                Thread thread = new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            return;
+                        }
+                        enabled[index] = shared.enableQueryCounters();
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (QueryCounters counters : enabled) {
+                assertTrue(counters == shared.getQueryCounters());
+            }
+        }
+    }
+
+    private static Set<String> prefixes(){
+        Set<String> prefixes = new HashSet<>();
+        for (String word : words) {
+            for (int i = 1; i <= word.length(); i++) {
+                prefixes.add(word.substring(0, i));
+            }
+        }
+        return prefixes;
+    }
+}
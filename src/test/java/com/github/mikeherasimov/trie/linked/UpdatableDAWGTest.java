@@ -0,0 +1,114 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class UpdatableDAWGTest {
+    private static String[] words = {"бар", "барабан", "баран", "балон", "бал", "балка", "батон"};
+    private UpdatableDAWG dawg;
+
+    @Before
+    public void setUp() throws Exception {
+        dawg = new UpdatableDAWG();
+        for (String word : words) {
+            dawg.add(word);
+        }
+    }
+
+    @Test
+    public void add() throws Exception {
+        boolean containsAllWords = true;
+        for (String word : words) {
+            containsAllWords &= dawg.contains(word);
+        }
+        assertTrue(containsAllWords);
+        assertFalse(dawg.add("бал"));
+        assertFalse(dawg.add(""));
+        assertFalse(dawg.contains("бара"));
+        assertTrue(dawg.isPrefix("бара"));
+        assertTrue(dawg.size() == words.length);
+        assertTrue(dawg.numberOfNodes() == numberOfNodes(words));
+    }
+
+    @Test
+    public void remove() throws Exception {
+        assertTrue(dawg.remove("барабан"));
+        assertFalse(dawg.remove("барабан"));
+        assertFalse(dawg.remove("бара"));
+        assertFalse(dawg.remove("батоны"));
+        assertFalse(dawg.isPrefix("бараб"));
+        assertTrue(dawg.remove("бал"));
+        assertFalse(dawg.contains("бал"));
+        assertTrue(dawg.contains("балка"));
+        assertTrue(dawg.size() == words.length - 2);
+        assertTrue(dawg.numberOfNodes() == numberOfNodes("бар", "баран", "балон", "балка", "батон"));
+
+        for (String word : words) {
+            dawg.remove(word);
+        }
+        assertTrue(dawg.isEmpty());
+        assertTrue(dawg.numberOfNodes() == 0);
+        assertFalse(dawg.isPrefix("б"));
+    }
+
+    @Test
+    public void randomUpdates() throws Exception {
+        Random random = new Random(42);
+        TreeSet<String> expected = new TreeSet<>();
+        UpdatableDAWG updatable = new UpdatableDAWG();
+        boolean minimal = true;
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = 1 + random.nextInt(6);
+            for (int j = 0; j < length; j++) {
+                builder.append((char) ('a' + random.nextInt(4)));
+            }
+            String word = builder.toString();
+            if (random.nextInt(3) == 0){
+                minimal &= updatable.remove(word) == expected.remove(word);
+            } else {
+                minimal &= updatable.add(word) == expected.add(word);
+            }
+            if (i % 100 == 0){
+                minimal &= updatable.numberOfNodes() == numberOfNodes(expected.toArray(new String[0]));
+            }
+        }
+        assertTrue(minimal);
+        assertTrue(updatable.size() == expected.size());
+        assertTrue(updatable.toLinkedDAWG().getTrie().equals(new DAWGBuilder().addAll(expected).build().getTrie()));
+    }
+
+    @Test
+    public void fromLinkedDAWG() throws Exception {
+        List<String> sorted = new ArrayList<>();
+        Collections.addAll(sorted, words);
+        Collections.sort(sorted);
+        UpdatableDAWG updatable = new UpdatableDAWG(new DAWGBuilder().addAll(sorted).build());
+        assertTrue(updatable.numberOfNodes() == numberOfNodes(words));
+        assertTrue(updatable.remove("батон"));
+        assertTrue(updatable.add("бант"));
+        assertTrue(updatable.contains("бант"));
+        assertFalse(updatable.contains("батон"));
+        assertTrue(updatable.numberOfNodes() ==
+                numberOfNodes("бар", "барабан", "баран", "балон", "бал", "балка", "бант"));
+    }
+
+    private static int numberOfNodes(String... words){
+        List<String> sorted = new ArrayList<>();
+        Collections.addAll(sorted, words);
+        Collections.sort(sorted);
+        LinkedDAWGSerializationHelper helper = new DAWGBuilder().addAll(sorted).build()
+                .getTrie().getDAWGSerializationHelper();
+        helper.calculateValues();
+        return helper.getNumberOfDistinctNodes() - 1;
+    }
+}
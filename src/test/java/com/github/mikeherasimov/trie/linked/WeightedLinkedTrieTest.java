@@ -0,0 +1,59 @@
+package com.github.mikeherasimov.trie.linked;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class WeightedLinkedTrieTest {
+    private WeightedLinkedTrie trie;
+
+    @Before
+    public void setUp() throws Exception {
+        trie = new WeightedLinkedTrie();
+        trie.add("бар", 5);
+        trie.add("барабан", 7);
+        trie.add("баран", 1);
+        trie.add("балон", 3);
+        trie.add("бал", 9);
+        trie.add("балка", 2);
+        trie.add("батон", 4);
+    }
+
+    @Test
+    public void add() throws Exception {
+        assertTrue(trie.size() == 7);
+        assertTrue(trie.contains("барабан"));
+        assertTrue(trie.isPrefix("бара"));
+        assertFalse(trie.contains("ба"));
+        assertTrue(trie.getWeight("балка") == 2);
+        assertTrue(trie.getWeight("ба") == -1);
+    }
+
+    @Test
+    public void topK() throws Exception {
+        assertTrue(trie.topK("ба", 3).equals(Arrays.asList("бал", "барабан", "бар")));
+        assertTrue(trie.topK("бар", 10).equals(Arrays.asList("барабан", "бар", "баран")));
+        assertTrue(trie.topK("бат", 1).equals(Collections.singletonList("батон")));
+        assertTrue(trie.topK("бак", 1).isEmpty());
+        assertTrue(trie.topK("", 0).isEmpty());
+    }
+
+    @Test
+    public void changeWeight() throws Exception {
+        trie.add("бал", 0);
+        trie.add("баран", 8);
+        assertTrue(trie.size() == 7);
+        assertTrue(trie.topK("ба", 3).equals(Arrays.asList("баран", "барабан", "бар")));
+        assertTrue(trie.topK("бал", 1).equals(Collections.singletonList("балон")));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void negativeWeight() throws Exception {
+        trie.add("война", -1);
+    }
+}
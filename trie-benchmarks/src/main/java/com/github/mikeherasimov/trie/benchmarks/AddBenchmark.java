@@ -0,0 +1,96 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.adaptive.AdaptiveTrie;
+import com.github.mikeherasimov.trie.array.ArrayTrie;
+import com.github.mikeherasimov.trie.linked.ConcurrentLinkedTrie;
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of building of each trie from all words of dataset,
+ * in random order and, where it matters, in sorted order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class AddBenchmark {
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private String[] words;
+    private List<String> sortedWords;
+
+    @Setup
+    public void setUp() {
+        words = Datasets.generate(kind, size);
+        sortedWords = Arrays.asList(Datasets.sorted(words));
+    }
+
+    @Benchmark
+    public LinkedTrie linkedTrie() {
+        return Structures.linkedTrie(words);
+    }
+
+    @Benchmark
+    public LinkedTrie linkedTrieSortedOneByOne() {
+        LinkedTrie trie = new LinkedTrie();
+        for (String word : sortedWords) {
+            trie.add(word);
+        }
+        return trie;
+    }
+
+    @Benchmark
+    public LinkedTrie linkedTrieSorted() {
+        LinkedTrie trie = new LinkedTrie();
+        trie.addAllSorted(sortedWords);
+        return trie;
+    }
+
+    @Benchmark
+    public ConcurrentLinkedTrie concurrentLinkedTrie() {
+        ConcurrentLinkedTrie trie = new ConcurrentLinkedTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+        return trie;
+    }
+
+    @Benchmark
+    public ArrayTrie arrayTrie() {
+        return Structures.arrayTrie(words);
+    }
+
+    @Benchmark
+    public AdaptiveTrie adaptiveTrie() {
+        return Structures.adaptiveTrie(words);
+    }
+
+    @Benchmark
+    public LinkedDAWG dawgBuilder() {
+        return new DAWGBuilder().addAll(sortedWords).build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookup of batch of words in random order: loop of <code>contains()</code>
+ * against <code>containsAll()</code>, which walks words of batch together.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class BatchLookupBenchmark {
+    private static final long LOOKUP_SEED = 7;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"256"})
+    public int batchSize;
+
+    private LinkedDAWG dawg;
+    private String[][] batches;
+    private boolean[] out;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build();
+        String[] hits = Datasets.shuffled(words, LOOKUP_SEED);
+        batches = new String[hits.length / batchSize][];
+        for (int i = 0; i < batches.length; i++) {
+            batches[i] = Arrays.copyOfRange(hits, i * batchSize, (i + 1) * batchSize);
+        }
+        out = new boolean[batchSize];
+    }
+
+    private String[] next(){
+        int current = index;
+        index = current + 1 == batches.length ? 0 : current + 1;
+        return batches[current];
+    }
+
+    @Benchmark
+    public int containsLoop() {
+        int found = 0;
+        for (String word : next()) {
+            if (dawg.contains(word)){
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public boolean[] containsAll() {
+        dawg.containsAll(next(), out);
+        return out;
+    }
+}
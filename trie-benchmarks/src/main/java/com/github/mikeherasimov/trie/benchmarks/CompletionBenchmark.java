@@ -0,0 +1,111 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.WordVisitor;
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import com.github.mikeherasimov.trie.linked.WeightedLinkedTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures completion of short prefixes (1-3 characters of random words): the most weighted words
+ * by best-first search of <code>WeightedLinkedTrie.topK()</code> against enumeration of all completions
+ * and sorting them by weight, and enumeration of all completions by <code>forEachWithPrefix()</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CompletionBenchmark {
+    private static final long LOOKUP_SEED = 7;
+    private static final int K = 10;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000"})
+    public int size;
+
+    private WeightedLinkedTrie weightedTrie;
+    private LinkedDAWG dawg;
+    private String[] prefixes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        weightedTrie = new WeightedLinkedTrie();
+        for (String word : words) {
+            weightedTrie.add(word, weight(word));
+        }
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build();
+
+        prefixes = Datasets.shuffled(words, LOOKUP_SEED);
+        for (int i = 0; i < prefixes.length; i++) {
+            prefixes[i] = prefixes[i].substring(0, Math.min(prefixes[i].length(), 1 + i % 3));
+        }
+    }
+
+    private static long weight(String word){
+        return word.hashCode() & 0xFFFF;
+    }
+
+    private String next(){
+        int current = index;
+        index = current + 1 == prefixes.length ? 0 : current + 1;
+        return prefixes[current];
+    }
+
+    @Benchmark
+    public List<String> topK() {
+        return weightedTrie.topK(next(), K);
+    }
+
+    @Benchmark
+    public List<String> enumerateAndSort() {
+        List<String> completions = new ArrayList<>();
+        Iterator<String> words = dawg.wordsWithPrefix(next());
+        while (words.hasNext()) {
+            completions.add(words.next());
+        }
+        Collections.sort(completions, new Comparator<String>() {
+            @Override
+            public int compare(String first, String second) {
+                return Long.compare(weight(second), weight(first));
+            }
+        });
+        return completions.subList(0, Math.min(K, completions.size()));
+    }
+
+    @Benchmark
+    public int forEachWithPrefix() {
+        final int[] letters = new int[1];
+        dawg.forEachWithPrefix(next(), Integer.MAX_VALUE, new WordVisitor() {
+            @Override
+            public boolean visit(char[] buffer, int length) {
+                letters[0] += length;
+                return true;
+            }
+        });
+        return letters[0];
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.ConcurrentLinkedTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures filling of ConcurrentLinkedTrie with all words of dataset by several threads,
+ * each of which adds its own contiguous part of words. Threads are pooled, so they aren't started
+ * by each invocation. Number of threads <code>0</code> means number of available processors,
+ * so scaling up to all cores of host is measured by default; other numbers are chosen with
+ * <code>-p threads=1,2,4,8,16</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ConcurrentAddBenchmark {
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"1", "2", "4", "0"})
+    public int threads;
+
+    private String[] words;
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        if (threads == 0){
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        words = Datasets.generate(kind, size);
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public ConcurrentLinkedTrie concurrentAdd() throws Exception {
+        final ConcurrentLinkedTrie trie = new ConcurrentLinkedTrie();
+        List<Callable<Void>> tasks = new ArrayList<>(threads);
+        for (int t = 0; t < threads; t++) {
+            final int from = (int) ((long) words.length * t / threads);
+            final int to = (int) ((long) words.length * (t + 1) / threads);
+            tasks.add(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for (int i = from; i < to; i++) {
+                        trie.add(words[i]);
+                    }
+                    return null;
+                }
+            });
+        }
+        for (Future<Void> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+        return trie;
+    }
+}
@@ -0,0 +1,183 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Datasets generates synthetic sets of distinct words for benchmarks.
+ * Generation is deterministic: the same kind, size and seed always give the same words in the same order,
+ * so results of different runs and different versions of library are comparable.
+ */
+public final class Datasets {
+    public static final long SEED = 42;
+
+    /**
+     * Character, which is never generated, so words with it are guaranteed misses.
+     */
+    public static final char MISS_MARK = '§';
+
+    private static final String[] ONSETS = {"", "b", "br", "c", "ch", "cl", "d", "f", "fr", "g", "gr", "h", "j", "k",
+            "l", "m", "n", "p", "pl", "qu", "r", "s", "sh", "sp", "st", "t", "th", "tr", "v", "w", "z"};
+    private static final String[] VOWELS = {"a", "e", "i", "o", "u", "ea", "ou", "ai", "ie", "y"};
+    private static final String[] CODAS = {"", "", "", "n", "r", "s", "t", "l", "nd", "ng", "st", "ck"};
+    private static final String[] SUFFIXES = {"", "", "", "", "s", "ed", "ing", "er", "ly", "tion", "ness", "able"};
+    private static final String[] TOP_LEVEL_DOMAINS = {"com", "org", "net", "io", "de", "ru", "co.uk", "info"};
+    private static final String[] SCHEMES = {"https://", "https://www.", "http://"};
+    private static final char[] ALPHABET =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+    private static final int WORDS_PER_HOST = 1000;
+
+    public enum Kind {
+        /**
+         * Words of 1-5 syllables with suffixes, where frequent syllables are chosen more often,
+         * so words share prefixes and suffixes like words of natural language.
+         */
+        NATURAL_LANGUAGE,
+        /**
+         * URLs with long shared prefixes (scheme and host) and paths of 1-4 segments.
+         */
+        URLS,
+        /**
+         * Alphanumeric strings of uniformly random length (4-20) and letters, which share almost nothing
+         * except the first letters.
+         */
+        RANDOM_STRINGS
+    }
+
+    private Datasets(){
+
+    }
+
+    public static String[] generate(Kind kind, int size) {
+        return generate(kind, size, SEED);
+    }
+
+    /**
+     * Generates distinct words in random order.
+     *
+     * @param kind  kind of words
+     * @param size  number of words
+     * @param seed  seed of random generator
+     * @return      array of distinct words
+     */
+    public static String[] generate(Kind kind, int size, long seed) {
+        Random random = new Random(seed);
+        String[] hosts = kind == Kind.URLS ? hosts(random, size / WORDS_PER_HOST + 1) : null;
+        Set<String> words = new LinkedHashSet<>(size + size / 3 + 1);
+        StringBuilder builder = new StringBuilder();
+        while (words.size() < size) {
+            builder.setLength(0);
+            switch (kind) {
+                case NATURAL_LANGUAGE:
+                    appendWord(random, builder);
+                    break;
+                case URLS:
+                    appendURL(random, hosts, builder);
+                    break;
+                default:
+                    appendRandomString(random, builder);
+            }
+            words.add(builder.toString());
+        }
+        return words.toArray(new String[size]);
+    }
+
+    /**
+     * Returns words, which are absent in supplied words and aren't prefixes of them: the last character
+     * of each word is replaced by <code>MISS_MARK</code>, so lookup fails only at the last character.
+     *
+     * @param words  supplied words
+     * @return       array of misses of the same length
+     */
+    public static String[] misses(String[] words) {
+        String[] misses = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            misses[i] = words[i].substring(0, words[i].length() - 1) + MISS_MARK;
+        }
+        return misses;
+    }
+
+    /**
+     * Returns proper prefixes of supplied words, which are about half as long as words.
+     *
+     * @param words  supplied words
+     * @return       array of prefixes of the same length
+     */
+    public static String[] prefixes(String[] words) {
+        String[] prefixes = new String[words.length];
+        for (int i = 0; i < words.length; i++) {
+            prefixes[i] = words[i].substring(0, (words[i].length() + 1) / 2);
+        }
+        return prefixes;
+    }
+
+    public static String[] sorted(String[] words) {
+        String[] sorted = words.clone();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    public static String[] shuffled(String[] words, long seed) {
+        String[] shuffled = words.clone();
+        Random random = new Random(seed);
+        for (int i = shuffled.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String word = shuffled[i];
+            shuffled[i] = shuffled[j];
+            shuffled[j] = word;
+        }
+        return shuffled;
+    }
+
+    private static void appendWord(Random random, StringBuilder builder){
+        int syllables = 1 + skewed(random, 5);
+        for (int i = 0; i < syllables; i++) {
+            builder.append(ONSETS[skewed(random, ONSETS.length)])
+                    .append(VOWELS[skewed(random, VOWELS.length)])
+                    .append(CODAS[skewed(random, CODAS.length)]);
+        }
+        builder.append(SUFFIXES[random.nextInt(SUFFIXES.length)]);
+    }
+
+    private static void appendURL(Random random, String[] hosts, StringBuilder builder){
+        builder.append(hosts[skewed(random, hosts.length)]);
+        int segments = 1 + random.nextInt(4);
+        for (int i = 0; i < segments; i++) {
+            builder.append('/');
+            appendWord(random, builder);
+        }
+        if (random.nextInt(4) == 0){
+            builder.append("?id=").append(random.nextInt(1000000));
+        }
+    }
+
+    private static String[] hosts(Random random, int count){
+        Set<String> hosts = new LinkedHashSet<>();
+        StringBuilder builder = new StringBuilder();
+        while (hosts.size() < count) {
+            builder.setLength(0);
+            builder.append(SCHEMES[random.nextInt(SCHEMES.length)]);
+            appendWord(random, builder);
+            builder.append('.').append(TOP_LEVEL_DOMAINS[random.nextInt(TOP_LEVEL_DOMAINS.length)]);
+            hosts.add(builder.toString());
+        }
+        return hosts.toArray(new String[count]);
+    }
+
+    private static void appendRandomString(Random random, StringBuilder builder){
+        int length = 4 + random.nextInt(17);
+        for (int i = 0; i < length; i++) {
+            builder.append(ALPHABET[random.nextInt(ALPHABET.length)]);
+        }
+    }
+
+    /**
+     * Returns index from 0 to <code>bound</code> (exclusive), where smaller indexes are more frequent.
+     */
+    private static int skewed(Random random, int bound){
+        double value = random.nextDouble();
+        return (int) (value * value * bound);
+    }
+}
@@ -0,0 +1,52 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.WordGraph;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+
+/**
+ * FootprintReport prints retained heap size of each structure for each dataset,
+ * measured by walking object graph (JOL), so it doesn't depend on garbage collector.
+ * Array of words and <code>HashSet</code> of words are printed as baselines.
+ * <p>
+ * Usage: <code>java -cp benchmarks.jar com.github.mikeherasimov.trie.benchmarks.FootprintReport [size...]</code>
+ */
+public final class FootprintReport {
+    private static final int[] DEFAULT_SIZES = {10000, 100000, 1000000};
+
+    private FootprintReport(){
+
+    }
+
+    public static void main(String[] args) {
+        int[] sizes = DEFAULT_SIZES;
+        if (args.length > 0){
+            sizes = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                sizes[i] = Integer.parseInt(args[i]);
+            }
+        }
+        System.out.println(String.format(Locale.ROOT, "%-18s %-14s %10s %14s %14s",
+                "dataset", "structure", "words", "bytes", "bytes/word"));
+        for (Datasets.Kind kind : Datasets.Kind.values()) {
+            for (int size : sizes) {
+                String[] words = Datasets.generate(kind, size);
+                print(kind, "String[]", size, GraphLayout.parseInstance((Object) words).totalSize());
+                print(kind, "HashSet", size,
+                        GraphLayout.parseInstance(new HashSet<>(Arrays.asList(words))).totalSize());
+                for (Structures.Kind structure : Structures.Kind.values()) {
+                    WordGraph graph = Structures.build(structure, words);
+                    print(kind, structure.name(), size, GraphLayout.parseInstance(graph).totalSize());
+                }
+            }
+        }
+    }
+
+    private static void print(Datasets.Kind kind, String structure, int size, long bytes){
+        System.out.println(String.format(Locale.ROOT, "%-18s %-14s %10d %14d %14.1f",
+                kind, structure, size, bytes, (double) bytes / size));
+    }
+}
@@ -0,0 +1,130 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures search of words within Levenshtein distance of misspelled query (word of dataset with one
+ * substituted character): <code>fuzzyMatches()</code> against generation of all edits of query
+ * over alphabet of dataset and lookup of each of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FuzzyBenchmark {
+    private static final long LOOKUP_SEED = 7;
+    private static final int NUMBER_OF_QUERIES = 64;
+
+    @Param({"NATURAL_LANGUAGE", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"1", "2"})
+    public int maxEdits;
+
+    private LinkedDAWG dawg;
+    private char[] alphabet;
+    private String[] queries;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build();
+
+        Set<Character> letters = new TreeSet<>();
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                letters.add(word.charAt(i));
+            }
+        }
+        alphabet = new char[letters.size()];
+        int i = 0;
+        for (char letter : letters) {
+            alphabet[i++] = letter;
+        }
+
+        Random random = new Random(LOOKUP_SEED);
+        String[] shuffled = Datasets.shuffled(words, LOOKUP_SEED);
+        queries = new String[NUMBER_OF_QUERIES];
+        for (int q = 0; q < queries.length; q++) {
+            char[] query = shuffled[q].toCharArray();
+            query[random.nextInt(query.length)] = alphabet[random.nextInt(alphabet.length)];
+            queries[q] = new String(query);
+        }
+    }
+
+    private String next(){
+        int current = index;
+        index = current + 1 == queries.length ? 0 : current + 1;
+        return queries[current];
+    }
+
+    @Benchmark
+    public List<String> fuzzyMatches() {
+        return dawg.fuzzyMatches(next(), maxEdits);
+    }
+
+    @Benchmark
+    public int bruteForceEdits() {
+        String query = next();
+        Set<String> candidates = Collections.singleton(query);
+        Set<String> seen = new HashSet<>(candidates);
+        for (int edits = 0; edits < maxEdits; edits++) {
+            Set<String> next = new HashSet<>();
+            for (String candidate : candidates) {
+                addEdits(candidate, next);
+            }
+            next.removeAll(seen);
+            seen.addAll(next);
+            candidates = next;
+        }
+        int found = 0;
+        for (String candidate : seen) {
+            if (dawg.contains(candidate)){
+                found++;
+            }
+        }
+        return found;
+    }
+
+    private void addEdits(String word, Set<String> edits){
+        for (int i = 0; i <= word.length(); i++) {
+            String head = word.substring(0, i);
+            if (i < word.length()){
+                edits.add(head + word.substring(i + 1));
+            }
+            for (char letter : alphabet) {
+                edits.add(head + letter + word.substring(i));
+                if (i < word.length()){
+                    edits.add(head + letter + word.substring(i + 1));
+                }
+            }
+        }
+    }
+}
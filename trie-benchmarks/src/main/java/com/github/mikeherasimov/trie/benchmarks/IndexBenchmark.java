@@ -0,0 +1,70 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.FlatDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures perfect hashing of FlatDAWG: <code>indexOf()</code> of words in random order
+ * and <code>wordAt()</code> of indexes in random order.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class IndexBenchmark {
+    private static final long LOOKUP_SEED = 7;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private FlatDAWG dawg;
+    private String[] hits;
+    private int[] indexes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        dawg = new FlatDAWG(new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build());
+        hits = Datasets.shuffled(words, LOOKUP_SEED);
+        indexes = new int[hits.length];
+        for (int i = 0; i < hits.length; i++) {
+            indexes[i] = dawg.indexOf(hits[i]);
+        }
+    }
+
+    private int next(){
+        int current = index;
+        index = current + 1 == hits.length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return dawg.indexOf(hits[next()]);
+    }
+
+    @Benchmark
+    public String wordAt() {
+        return dawg.wordAt(indexes[next()]);
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.WordGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of one lookup of word or prefix, which is present (hit) or absent (miss).
+ * Words are looked up in random order, which differs from order of their addition,
+ * so lookups don't walk memory in order of allocation of nodes.
+ * Misses differ from words only by the last character, so they are the most expensive misses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class LookupBenchmark {
+    private static final long LOOKUP_SEED = 7;
+
+    @Param({"LINKED_TRIE", "LINKED_DAWG", "FLAT_DAWG", "ARRAY_TRIE", "ADAPTIVE_TRIE"})
+    public Structures.Kind structure;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private WordGraph graph;
+    private String[] hits;
+    private String[] misses;
+    private String[] prefixes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        graph = Structures.build(structure, words);
+        hits = Datasets.shuffled(words, LOOKUP_SEED);
+        misses = Datasets.misses(hits);
+        prefixes = Datasets.prefixes(hits);
+    }
+
+    private int next(){
+        int current = index;
+        index = current + 1 == hits.length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public boolean containsHit() {
+        return graph.contains(hits[next()]);
+    }
+
+    @Benchmark
+    public boolean containsMiss() {
+        return graph.contains(misses[next()]);
+    }
+
+    @Benchmark
+    public boolean isPrefixHit() {
+        return graph.isPrefix(prefixes[next()]);
+    }
+
+    @Benchmark
+    public boolean isPrefixMiss() {
+        return graph.isPrefix(misses[next()]);
+    }
+}
@@ -0,0 +1,70 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import com.github.mikeherasimov.trie.linked.MappedDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures writing of DAWG to file of MappedDAWG and opening of that file, which maps it
+ * without reading of nodes. Files are temporary and are deleted after trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class MappedDAWGBenchmark {
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    private LinkedDAWG dawg;
+    private File file;
+    private File writtenFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(Datasets.generate(kind, size)))).build();
+        file = File.createTempFile("benchmark", ".dawg");
+        writtenFile = File.createTempFile("benchmark", ".dawg");
+        MappedDAWG.write(dawg, file);
+    }
+
+    @TearDown
+    public void tearDown() {
+        file.delete();
+        writtenFile.delete();
+    }
+
+    @Benchmark
+    public long write() throws IOException {
+        MappedDAWG.write(dawg, writtenFile);
+        return writtenFile.length();
+    }
+
+    @Benchmark
+    public MappedDAWG open() throws IOException {
+        return MappedDAWG.open(file);
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedTrie;
+import com.github.mikeherasimov.trie.linked.LinkedTrieOptimizers;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares bottom-up optimization of LinkedTrie (<code>toDAWG()</code>) with optimization by comparison of leafs,
+ * which it has replaced, by time and by number of distinct nodes of resulting DAWG,
+ * which is reported as <code>nodes</code> secondary result. Optimization by comparison of leafs takes
+ * quadratic time, so only small datasets are benchmarked by default.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class OptimizerBenchmark {
+
+    public enum Algorithm {
+        BOTTOM_UP, LEAF_COMPARISON
+    }
+
+    @Param({"BOTTOM_UP", "LEAF_COMPARISON"})
+    public Algorithm algorithm;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"1000", "10000"})
+    public int size;
+
+    private LinkedTrie trie;
+
+    /**
+     * Number of distinct nodes of the last built DAWG. It is the same for all invocations,
+     * so it is assigned instead of being accumulated.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Nodes {
+        public long nodes;
+    }
+
+    @Setup
+    public void setUp() {
+        trie = Structures.linkedTrie(Datasets.generate(kind, size));
+    }
+
+    @Benchmark
+    public LinkedDAWG toDAWG(Nodes counters) {
+        LinkedDAWG dawg = algorithm == Algorithm.BOTTOM_UP ?
+                trie.toDAWG() : LinkedTrieOptimizers.toDAWGByLeafComparison(trie);
+        counters.nodes = dawg.stats().getNumberOfDistinctNodes();
+        return dawg;
+    }
+}
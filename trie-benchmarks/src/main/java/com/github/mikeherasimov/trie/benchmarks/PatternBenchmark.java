@@ -0,0 +1,69 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Measures search of words by wildcard pattern: <code>wordsMatching()</code>, which prunes subtries
+ * by pattern, against matching of equivalent regular expression with each word of DAWG.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PatternBenchmark {
+
+    @Param({"NATURAL_LANGUAGE"})
+    public Datasets.Kind kind;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"c?t*s", "*ing", "[aeiou]??[^aeiou]e", "pre*tion"})
+    public String pattern;
+
+    private LinkedDAWG dawg;
+    private Pattern regex;
+
+    @Setup
+    public void setUp() {
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(Datasets.generate(kind, size)))).build();
+        regex = Pattern.compile(pattern.replace("?", ".").replace("*", ".*"));
+    }
+
+    @Benchmark
+    public List<String> wordsMatching() {
+        return dawg.wordsMatching(pattern);
+    }
+
+    @Benchmark
+    public int regexOverAllWords() {
+        int found = 0;
+        Iterator<String> words = dawg.wordsWithPrefix("");
+        while (words.hasNext()) {
+            if (regex.matcher(words.next()).matches()){
+                found++;
+            }
+        }
+        return found;
+    }
+}
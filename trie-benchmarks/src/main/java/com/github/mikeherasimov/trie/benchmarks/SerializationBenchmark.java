@@ -0,0 +1,93 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.array.ArrayTrie;
+import com.github.mikeherasimov.trie.linked.FlatDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures <code>writeExternal</code> and <code>readExternal</code> of externalizable structures.
+ * Streams are kept in memory, so disk doesn't affect results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class SerializationBenchmark {
+
+    @Param({"LINKED_TRIE", "LINKED_DAWG", "FLAT_DAWG", "ARRAY_TRIE"})
+    public Structures.Kind structure;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private Externalizable object;
+    private byte[] bytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        object = (Externalizable) Structures.build(structure, Datasets.generate(kind, size));
+        bytes = write(object).toByteArray();
+    }
+
+    private ByteArrayOutputStream write(Externalizable object) throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(bytes == null ? 1 << 16 : bytes.length);
+        ObjectOutputStream out = new ObjectOutputStream(stream);
+        object.writeExternal(out);
+        out.close();
+        return stream;
+    }
+
+    private Externalizable newInstance(){
+        switch (structure) {
+            case LINKED_TRIE:
+                return new LinkedTrie();
+            case LINKED_DAWG:
+                return new LinkedDAWG();
+            case FLAT_DAWG:
+                return new FlatDAWG();
+            case ARRAY_TRIE:
+                return new ArrayTrie();
+            default:
+                throw new IllegalStateException("Structure isn't externalizable: " + structure);
+        }
+    }
+
+    @Benchmark
+    public int writeExternal() throws IOException {
+        return write(object).size();
+    }
+
+    @Benchmark
+    public Externalizable readExternal() throws IOException, ClassNotFoundException {
+        Externalizable copy = newInstance();
+        ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));
+        copy.readExternal(in);
+        in.close();
+        return copy;
+    }
+}
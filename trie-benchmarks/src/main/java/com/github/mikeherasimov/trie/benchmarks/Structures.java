@@ -0,0 +1,75 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.WordGraph;
+import com.github.mikeherasimov.trie.adaptive.AdaptiveTrie;
+import com.github.mikeherasimov.trie.array.ArrayTrie;
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.FlatDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedTrie;
+
+import java.util.Arrays;
+
+/**
+ * Structures builds word graphs, which are compared by benchmarks.
+ */
+public final class Structures {
+
+    public enum Kind {
+        LINKED_TRIE,
+        LINKED_DAWG,
+        FLAT_DAWG,
+        ARRAY_TRIE,
+        ADAPTIVE_TRIE
+    }
+
+    private Structures(){
+
+    }
+
+    /**
+     * Builds word graph of supplied kind, which contains supplied words.
+     * Tries are filled in order of words, DAWGs are built from sorted words by <code>DAWGBuilder</code>.
+     *
+     * @param kind   kind of word graph
+     * @param words  words to be added
+     * @return       word graph
+     */
+    public static WordGraph build(Kind kind, String[] words) {
+        switch (kind) {
+            case LINKED_TRIE:
+                return linkedTrie(words);
+            case LINKED_DAWG:
+                return new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build();
+            case FLAT_DAWG:
+                return new FlatDAWG(new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build());
+            case ARRAY_TRIE:
+                return arrayTrie(words);
+            default:
+                return adaptiveTrie(words);
+        }
+    }
+
+    public static LinkedTrie linkedTrie(String[] words) {
+        LinkedTrie trie = new LinkedTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+        return trie;
+    }
+
+    public static ArrayTrie arrayTrie(String[] words) {
+        ArrayTrie trie = new ArrayTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+        return trie;
+    }
+
+    public static AdaptiveTrie adaptiveTrie(String[] words) {
+        AdaptiveTrie trie = new AdaptiveTrie();
+        for (String word : words) {
+            trie.add(word);
+        }
+        return trie;
+    }
+}
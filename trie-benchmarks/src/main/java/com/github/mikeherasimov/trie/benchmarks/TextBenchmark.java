@@ -0,0 +1,156 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.AhoCorasickScanner;
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.DictionarySegmenter;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures processing of text, which consists of random words of dictionary:
+ * search of all occurrences of words (by lookups of prefixes from each offset and by AhoCorasickScanner)
+ * and segmentation of text without spaces into words (by growing substrings, by <code>longestPrefixMatch()</code>
+ * and by DictionarySegmenter in both modes).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TextBenchmark {
+    private static final long TEXT_SEED = 42;
+
+    @Param({"NATURAL_LANGUAGE"})
+    public Datasets.Kind kind;
+
+    @Param({"100000"})
+    public int size;
+
+    @Param({"100000"})
+    public int textWords;
+
+    private LinkedDAWG dawg;
+    private AhoCorasickScanner scanner;
+    private DictionarySegmenter maximalMatch;
+    private DictionarySegmenter shortestPath;
+    private String spacedText;
+    private char[] spacedChars;
+    private String joinedText;
+    private long checksum;
+
+    private final AhoCorasickScanner.MatchListener matchListener = new AhoCorasickScanner.MatchListener() {
+        @Override
+        public void match(long start, long end, int termId) {
+            checksum += end - start;
+        }
+    };
+
+    private final DictionarySegmenter.TokenListener tokenListener = new DictionarySegmenter.TokenListener() {
+        @Override
+        public void token(long start, long end, boolean inDictionary) {
+            checksum += end - start;
+        }
+    };
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build();
+        scanner = new AhoCorasickScanner(dawg);
+        maximalMatch = new DictionarySegmenter(dawg, DictionarySegmenter.Mode.MAXIMAL_MATCH);
+        shortestPath = new DictionarySegmenter(dawg, DictionarySegmenter.Mode.SHORTEST_PATH);
+
+        Random random = new Random(TEXT_SEED);
+        StringBuilder spaced = new StringBuilder();
+        StringBuilder joined = new StringBuilder();
+        for (int i = 0; i < textWords; i++) {
+            String word = words[random.nextInt(words.length)];
+            spaced.append(word).append(' ');
+            joined.append(word);
+        }
+        spacedText = spaced.toString();
+        spacedChars = spacedText.toCharArray();
+        joinedText = joined.toString();
+    }
+
+    @Benchmark
+    public AhoCorasickScanner compileScanner() {
+        return new AhoCorasickScanner(dawg);
+    }
+
+    @Benchmark
+    public long scanByPrefixes() {
+        long matches = 0;
+        for (int start = 0; start < spacedChars.length; start++) {
+            for (int length = 1; start + length <= spacedChars.length &&
+                    dawg.isPrefix(spacedChars, start, length); length++) {
+                if (dawg.contains(spacedChars, start, length)){
+                    matches++;
+                }
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public long scanAhoCorasick() {
+        return scanner.scan(spacedText, matchListener);
+    }
+
+    @Benchmark
+    public long scanAhoCorasickReader() throws IOException {
+        return scanner.scan(new StringReader(spacedText), matchListener);
+    }
+
+    @Benchmark
+    public long segmentBySubstrings() {
+        long tokens = 0;
+        for (int i = 0; i < joinedText.length(); tokens++) {
+            int longest = 1;
+            for (int length = 1; i + length <= joinedText.length() &&
+                    dawg.isPrefix(joinedText.substring(i, i + length)); length++) {
+                if (dawg.contains(joinedText.substring(i, i + length))){
+                    longest = length;
+                }
+            }
+            i += longest;
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public long segmentByLongestPrefixMatch() {
+        long tokens = 0;
+        for (int i = 0; i < joinedText.length(); tokens++) {
+            i += Math.max(dawg.longestPrefixMatch(joinedText, i), 1);
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public long segmentMaximalMatch() throws IOException {
+        return maximalMatch.segment(new StringReader(joinedText), tokenListener);
+    }
+
+    @Benchmark
+    public long segmentShortestPath() throws IOException {
+        return shortestPath.segment(new StringReader(joinedText), tokenListener);
+    }
+}
@@ -0,0 +1,80 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.array.ArrayDAWG;
+import com.github.mikeherasimov.trie.array.ArrayTrie;
+import com.github.mikeherasimov.trie.linked.FlatDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import com.github.mikeherasimov.trie.linked.LinkedTrie;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures time of optimization of filled tries to DAWGs. Tries aren't changed by optimization
+ * (it works on their copies), so the same tries are optimized by all invocations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ToDAWGBenchmark {
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private LinkedTrie linkedTrie;
+    private ArrayTrie arrayTrie;
+    private LinkedDAWG linkedDAWG;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        linkedTrie = Structures.linkedTrie(words);
+        arrayTrie = Structures.arrayTrie(words);
+        linkedDAWG = linkedTrie.toDAWG();
+        pool = new ForkJoinPool();
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public LinkedDAWG linkedTrie() {
+        return linkedTrie.toDAWG();
+    }
+
+    @Benchmark
+    public LinkedDAWG linkedTrieInParallel() {
+        return linkedTrie.toDAWG(pool);
+    }
+
+    @Benchmark
+    public ArrayDAWG arrayTrie() {
+        return arrayTrie.toDAWG();
+    }
+
+    @Benchmark
+    public FlatDAWG flatDAWG() {
+        return new FlatDAWG(linkedDAWG);
+    }
+}
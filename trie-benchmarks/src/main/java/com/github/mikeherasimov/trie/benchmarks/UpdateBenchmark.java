@@ -0,0 +1,76 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.IntValueDAWG;
+import com.github.mikeherasimov.trie.linked.IntValueTrie;
+import com.github.mikeherasimov.trie.linked.UpdatableDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building of IntValueTrie from all words of dataset with its freezing to IntValueDAWG,
+ * and removal and addition of <code>updates</code> words of UpdatableDAWG, which keeps it minimal
+ * (its words are the same after each invocation). Rebuilding of DAWG from scratch, which is alternative
+ * to updates, is measured by <code>AddBenchmark.dawgBuilder</code>.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UpdateBenchmark {
+    private static final long UPDATE_SEED = 7;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000", "1000000"})
+    public int size;
+
+    @Param({"1000"})
+    public int updates;
+
+    private String[] words;
+    private String[] updatedWords;
+    private UpdatableDAWG updatable;
+
+    @Setup
+    public void setUp() {
+        words = Datasets.generate(kind, size);
+        updatable = new UpdatableDAWG(new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build());
+        updatedWords = Arrays.copyOf(Datasets.shuffled(words, UPDATE_SEED), Math.min(updates, size));
+    }
+
+    @Benchmark
+    public IntValueDAWG intValueTrieAndFreeze() {
+        IntValueTrie trie = new IntValueTrie(-1);
+        for (int i = 0; i < words.length; i++) {
+            trie.put(words[i], i);
+        }
+        return trie.freeze();
+    }
+
+    @Benchmark
+    public int updatableDAWG() {
+        for (String word : updatedWords) {
+            updatable.remove(word);
+        }
+        for (String word : updatedWords) {
+            updatable.add(word);
+        }
+        return updatable.numberOfNodes();
+    }
+}
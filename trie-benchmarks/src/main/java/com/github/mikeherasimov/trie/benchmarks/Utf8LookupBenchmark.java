@@ -0,0 +1,106 @@
+package com.github.mikeherasimov.trie.benchmarks;
+
+import com.github.mikeherasimov.trie.linked.DAWGBuilder;
+import com.github.mikeherasimov.trie.linked.LinkedDAWG;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures lookup of words, which are kept as UTF-8 bytes of one buffer (like tokens of network buffer):
+ * decoding of each word to <code>String</code> before lookup is compared with lookups of byte slices
+ * of heap array and direct buffer, which decode UTF-8 during traversal, and of <code>char[]</code> slices.
+ * Allocation per lookup is reported by GC profiler as <code>gc.alloc.rate.norm</code>:
+ * <code>java -jar target/benchmarks.jar Utf8LookupBenchmark -prof gc</code>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class Utf8LookupBenchmark {
+    private static final long LOOKUP_SEED = 7;
+
+    @Param({"NATURAL_LANGUAGE", "URLS", "RANDOM_STRINGS"})
+    public Datasets.Kind kind;
+
+    @Param({"100000"})
+    public int size;
+
+    private LinkedDAWG dawg;
+    private byte[] bytes;
+    private ByteBuffer directBuffer;
+    private int[] byteOffsets;
+    private char[] chars;
+    private int[] charOffsets;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        String[] words = Datasets.generate(kind, size);
+        dawg = new DAWGBuilder().addAll(Arrays.asList(Datasets.sorted(words))).build();
+
+        String[] hits = Datasets.shuffled(words, LOOKUP_SEED);
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        StringBuilder builder = new StringBuilder();
+        byteOffsets = new int[hits.length + 1];
+        charOffsets = new int[hits.length + 1];
+        for (int i = 0; i < hits.length; i++) {
+            byte[] word = hits[i].getBytes(StandardCharsets.UTF_8);
+            stream.write(word, 0, word.length);
+            builder.append(hits[i]);
+            byteOffsets[i + 1] = stream.size();
+            charOffsets[i + 1] = builder.length();
+        }
+        bytes = stream.toByteArray();
+        directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes);
+        chars = builder.toString().toCharArray();
+    }
+
+    private int next(){
+        int current = index;
+        index = current + 2 == byteOffsets.length ? 0 : current + 1;
+        return current;
+    }
+
+    @Benchmark
+    public boolean containsDecodedString() {
+        int i = next();
+        return dawg.contains(new String(bytes, byteOffsets[i], byteOffsets[i + 1] - byteOffsets[i],
+                StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public boolean containsUTF8() {
+        int i = next();
+        return dawg.contains(bytes, byteOffsets[i], byteOffsets[i + 1] - byteOffsets[i]);
+    }
+
+    @Benchmark
+    public boolean containsUTF8Direct() {
+        int i = next();
+        return dawg.contains(directBuffer, byteOffsets[i], byteOffsets[i + 1] - byteOffsets[i]);
+    }
+
+    @Benchmark
+    public boolean containsCharArray() {
+        int i = next();
+        return dawg.contains(chars, charOffsets[i], charOffsets[i + 1] - charOffsets[i]);
+    }
+}
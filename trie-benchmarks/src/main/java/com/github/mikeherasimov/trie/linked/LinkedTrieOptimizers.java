@@ -0,0 +1,17 @@
+package com.github.mikeherasimov.trie.linked;
+
+/**
+ * LinkedTrieOptimizers gives benchmarks access to package-private optimization of LinkedTrie by comparison
+ * of leafs (<code>Optimizer.eliminateDuplicates()</code>), which is replaced by bottom-up optimization
+ * in <code>LinkedTrie.toDAWG()</code>, so both algorithms can be compared.
+ */
+public final class LinkedTrieOptimizers {
+
+    private LinkedTrieOptimizers(){
+
+    }
+
+    public static LinkedDAWG toDAWGByLeafComparison(LinkedTrie trie) {
+        return trie.toDAWGByLeafComparison();
+    }
+}